@@ -0,0 +1,191 @@
+package com.yoanesber.spring.redis_publisher_lettuce.audit;
+
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PublishAuditDTO;
+
+/*
+ * Audit trail of published events, kept off the request thread.
+ * Publish metadata is written into a preallocated ring buffer of mutable slots:
+ * a writer claims a sequence number with a single atomic increment and fills the
+ * slot at (sequence & mask), so recording neither locks nor allocates. Each slot is
+ * guarded by its sequence number (seqlock); readers copy a slot and keep it only if
+ * the sequence did not change while they read it. Two writers only meet on a slot
+ * when publishes lap the whole buffer, so the capacity is sized well above the
+ * number of concurrent publishes.
+ * A background thread logs a sample of the records as structured key=value lines
+ * on the "publish-audit" logger.
+ */
+@Component
+public class PublishAuditLog implements DisposableBean {
+
+    // Written before a slot is filled, so readers skip slots that are being written
+    private static final long WRITING = -1L;
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    private final AtomicLong cursor = new AtomicLong();
+
+    private final int sampleRate;
+
+    private final ScheduledExecutorService logExecutor;
+
+    private final Logger auditLogger = LoggerFactory.getLogger("publish-audit");
+
+    // Next sequence the background logger looks at; only used by the logging thread
+    private long nextToLog;
+
+    public PublishAuditLog(@Value("${redis.audit.capacity:4096}") int capacity,
+        @Value("${redis.audit.log-sample-rate:100}") int sampleRate,
+        @Value("${redis.audit.log-interval-ms:1000}") long logIntervalMs) {
+        Assert.isTrue(capacity > 0 && Integer.bitCount(capacity) == 1, "Audit capacity must be a power of two");
+        Assert.isTrue(sampleRate >= 0, "Audit log sample rate must not be negative");
+        Assert.isTrue(logIntervalMs > 0, "Audit log interval must be greater than zero");
+
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.sampleRate = sampleRate;
+
+        // A sample rate of 0 disables audit logging; the ring buffer is still queryable
+        if (sampleRate > 0) {
+            this.logExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "publish-audit-logger");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.logExecutor.scheduleWithFixedDelay(this::logSample, logIntervalMs, logIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.logExecutor = null;
+        }
+    }
+
+    /**
+     * Records a published event.
+     *
+     * @param channel the Redis channel
+     * @param orderId the order the event belongs to, or null
+     * @param payloadSize the size of the published payload in bytes
+     * @param latencyNanos the time spent in MessagePublisher, in nanoseconds
+     * @param receivers the receiver count returned by PUBLISH; -1 if the publish failed
+     */
+    public void record(String channel, String orderId, int payloadSize, long latencyNanos, long receivers) {
+        long sequence = cursor.getAndIncrement();
+        Slot slot = slots[(int) (sequence & mask)];
+
+        slot.sequence = WRITING;
+        VarHandle.storeStoreFence();
+        slot.timestamp = System.currentTimeMillis();
+        slot.channel = channel;
+        slot.orderId = orderId;
+        slot.payloadSize = payloadSize;
+        slot.latencyNanos = latencyNanos;
+        slot.receivers = receivers;
+        slot.sequence = sequence;
+    }
+
+    /**
+     * Returns the most recent records, newest first.
+     *
+     * @param channel only return records of this channel; null for all channels
+     * @param orderId only return records of this order; null for all orders
+     * @param limit the maximum number of records to return
+     * @return the matching records
+     */
+    public List<PublishAuditDTO> query(String channel, String orderId, int limit) {
+        Assert.isTrue(limit > 0, "Limit must be greater than zero");
+
+        List<PublishAuditDTO> records = new ArrayList<>(Math.min(limit, slots.length));
+        long last = cursor.get() - 1;
+        for (long sequence = last; sequence >= 0 && sequence > last - slots.length && records.size() < limit; sequence--) {
+            PublishAuditDTO record = read(sequence);
+            if (record == null) {
+                continue;
+            }
+            if (channel != null && !channel.equals(record.getChannel())) {
+                continue;
+            }
+            if (orderId != null && !orderId.equals(record.getOrderId())) {
+                continue;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    // Copies the slot holding the given sequence; null if it is being written or was overwritten
+    private PublishAuditDTO read(long sequence) {
+        Slot slot = slots[(int) (sequence & mask)];
+        if (slot.sequence != sequence) {
+            return null;
+        }
+
+        PublishAuditDTO record = new PublishAuditDTO(sequence, 
+            Instant.ofEpochMilli(slot.timestamp),
+            slot.channel,
+            slot.orderId,
+            slot.payloadSize,
+            slot.latencyNanos / 1_000,
+            slot.receivers);
+
+        VarHandle.loadLoadFence();
+        return slot.sequence == sequence ? record : null;
+    }
+
+    private void logSample() {
+        try {
+            long end = cursor.get();
+            long sequence = Math.max(nextToLog, end - slots.length);
+            for (; sequence < end; sequence++) {
+                if (sequence % sampleRate != 0) {
+                    continue;
+                }
+
+                PublishAuditDTO record = read(sequence);
+                if (record != null) {
+                    auditLogger.info("seq={} ts={} channel={} orderId={} size={} latencyUs={} receivers={}",
+                        record.getSequence(), record.getTimestamp(), record.getChannel(), record.getOrderId(),
+                        record.getPayloadSize(), record.getLatencyMicros(), record.getReceivers());
+                }
+            }
+            nextToLog = sequence;
+        } catch (Exception e) {
+            auditLogger.warn("Error logging publish audit sample", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (logExecutor != null) {
+            logExecutor.shutdown();
+        }
+    }
+
+    private static final class Slot {
+        private volatile long sequence = WRITING;
+        private long timestamp;
+        private String channel;
+        private String orderId;
+        private int payloadSize;
+        private long latencyNanos;
+        private long receivers;
+    }
+}
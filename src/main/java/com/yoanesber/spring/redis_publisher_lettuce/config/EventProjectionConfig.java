@@ -0,0 +1,31 @@
+package com.yoanesber.spring.redis_publisher_lettuce.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentFailedEventDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+import com.yoanesber.spring.redis_publisher_lettuce.redis.EventProjection;
+
+@Configuration
+public class EventProjectionConfig {
+
+    /*
+     * Fields published to the PAYMENT_SUCCESS channel.
+     * Card, PayPal and bank details of the OrderPayment are never published.
+     */
+    @Bean
+    public EventProjection paymentSuccessProjection() {
+        return EventProjection.of("PAYMENT_SUCCESS", OrderPayment.class,
+            "orderId", "transactionId", "amount", "currency", "paymentMethod", "paymentStatus", "createdAt");
+    }
+
+    /*
+     * Fields published to the PAYMENT_FAILED channel.
+     */
+    @Bean
+    public EventProjection paymentFailedProjection() {
+        return EventProjection.of("PAYMENT_FAILED", PaymentFailedEventDTO.class,
+            "orderId", "paymentMethod", "amount", "currency", "reason");
+    }
+}
@@ -0,0 +1,57 @@
+package com.yoanesber.spring.redis_publisher_lettuce.config;
+
+import io.lettuce.core.resource.EpollProvider;
+import io.lettuce.core.resource.IOUringProvider;
+
+/*
+ * Netty transport used by Lettuce for its event loops.
+ * Lettuce picks the transport from the classpath and from the io.lettuce.core.* system
+ * properties, which are read once when its transport providers are first loaded.
+ * select() must therefore run before the first ClientResources is created.
+ * 
+ * * AUTO: io_uring if available, then epoll, then NIO (Lettuce default)
+ * * NIO: JDK NIO transport, available everywhere
+ * * EPOLL: Linux epoll, requires netty-transport-native-epoll on the classpath
+ * * IO_URING: Linux io_uring, requires netty-incubator-transport-native-io_uring (mvn -Pio-uring)
+ */
+public enum LettuceTransport {
+    AUTO, NIO, EPOLL, IO_URING;
+
+    private static final String EPOLL_PROPERTY = "io.lettuce.core.epoll";
+    private static final String IO_URING_PROPERTY = "io.lettuce.core.iouring";
+
+    public static LettuceTransport from(String value) {
+        return LettuceTransport.valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+    public void select() {
+        switch (this) {
+            case NIO -> {
+                System.setProperty(EPOLL_PROPERTY, "false");
+                System.setProperty(IO_URING_PROPERTY, "false");
+            }
+            case EPOLL -> {
+                System.setProperty(EPOLL_PROPERTY, "true");
+                System.setProperty(IO_URING_PROPERTY, "false");
+            }
+            case IO_URING -> {
+                System.setProperty(EPOLL_PROPERTY, "false");
+                System.setProperty(IO_URING_PROPERTY, "true");
+            }
+            case AUTO -> {
+                // Leave the selection to Lettuce
+            }
+        }
+    }
+
+    // Returns the transport Lettuce actually uses after select() has run
+    public static LettuceTransport active() {
+        if (IOUringProvider.isAvailable()) {
+            return IO_URING;
+        }
+        if (EpollProvider.isAvailable()) {
+            return EPOLL;
+        }
+        return NIO;
+    }
+}
@@ -0,0 +1,76 @@
+package com.yoanesber.spring.redis_publisher_lettuce.config;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+
+/*
+ * Writes Money amounts in published events as plain JSON numbers.
+ * The currency is not written; every event that carries an amount also carries its currency.
+ * 
+ * * DECIMAL: the decimal amount, e.g., 199.99 (default, same as the former BigDecimal fields)
+ * * MINOR_UNITS: the integer amount in minor units of the currency, e.g., 19999
+ * 
+ * Decimal amounts are formatted from the minor units into a per-thread char buffer,
+ * without building a BigDecimal or a String for every event.
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public enum Format {
+        DECIMAL, MINOR_UNITS;
+
+        public static Format from(String value) {
+            return Format.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    // Sign, 19 digits, decimal point and a leading zero
+    private static final int MAX_DECIMAL_LENGTH = 22;
+
+    private static final ThreadLocal<char[]> DECIMAL_BUFFER = ThreadLocal.withInitial(() -> new char[MAX_DECIMAL_LENGTH]);
+
+    private final Format format;
+
+    public MoneyJsonSerializer(Format format) {
+        super(Money.class);
+        this.format = format;
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (format == Format.MINOR_UNITS) {
+            gen.writeNumber(value.getMinorUnits());
+        } else if (value.getMinorUnits() == Long.MIN_VALUE || value.getFractionDigits() > MAX_DECIMAL_LENGTH - 3) {
+            // Cannot be negated, or more fraction digits than the buffer holds
+            gen.writeNumber(value.toBigDecimal());
+        } else {
+            char[] buffer = DECIMAL_BUFFER.get();
+            int start = formatDecimal(value.getMinorUnits(), value.getFractionDigits(), buffer);
+            gen.writeNumber(buffer, start, buffer.length - start);
+        }
+    }
+
+    // Writes the amount right-aligned in the buffer, as BigDecimal.toString() would; returns its start
+    static int formatDecimal(long minorUnits, int fractionDigits, char[] buffer) {
+        long remaining = Math.abs(minorUnits);
+        int position = buffer.length;
+        for (int i = 0; i < fractionDigits; i++) {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (fractionDigits > 0) {
+            buffer[--position] = '.';
+        }
+        do {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (minorUnits < 0) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+}
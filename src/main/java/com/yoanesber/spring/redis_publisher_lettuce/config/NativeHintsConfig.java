@@ -0,0 +1,52 @@
+package com.yoanesber.spring.redis_publisher_lettuce.config;
+
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+import com.yoanesber.spring.redis_publisher_lettuce.dto.BacklogReplayResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.CreateOrderPaymentRequestDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.CreateOrderPaymentResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentBankRequestDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentCCRequestDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentFailedEventDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentPaypalRequestDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentStatusResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PublishAuditDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.CustomHttpResponse;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Order;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderDetail;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+import com.yoanesber.spring.redis_publisher_lettuce.redis.ProjectedEvent;
+
+/*
+ * Reachability hints for the GraalVM native image (mvn -Pnative native:compile).
+ * Jackson binds DTOs and entities reflectively, both in the REST layer and in
+ * GenericJackson2JsonRedisSerializer when events are published, so their
+ * constructors, fields and accessors must be registered for reflection; the
+ * EventProjection getters are resolved through the same hints, and the
+ * ProjectedEvent hint covers the serializer bound to it with @JsonSerialize.
+ * The hints are ignored on the JVM.
+ */
+@Configuration
+@RegisterReflectionForBinding({
+    BacklogReplayResponseDTO.class,
+    CreateOrderPaymentRequestDTO.class,
+    CreateOrderPaymentResponseDTO.class,
+    PaymentBankRequestDTO.class,
+    PaymentCCRequestDTO.class,
+    PaymentFailedEventDTO.class,
+    PaymentPaypalRequestDTO.class,
+    PaymentResponseDTO.class,
+    PaymentStatusResponseDTO.class,
+    PublishAuditDTO.class,
+    CustomHttpResponse.class,
+    Money.class,
+    Order.class,
+    OrderDetail.class,
+    OrderPayment.class,
+    ProjectedEvent.class
+})
+public class NativeHintsConfig {
+}
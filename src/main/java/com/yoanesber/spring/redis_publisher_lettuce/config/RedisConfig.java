@@ -2,6 +2,8 @@ package com.yoanesber.spring.redis_publisher_lettuce.config;
 
 import java.time.Duration;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,14 +12,19 @@ import org.springframework.data.redis.connection.lettuce.LettuceClientConfigurat
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentStatusResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
+import io.lettuce.core.SocketOptions.KeepAliveOptions;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.resource.DefaultClientResources;
 
@@ -45,14 +52,61 @@ public class RedisConfig {
     @Value("${spring.data.redis.connect-timeout}")
     private long connectTimeout;
 
+    @Value("${redis.lettuce.transport:auto}")
+    private String transport;
+
+    @Value("${redis.lettuce.io-thread-pool-size:0}")
+    private int ioThreadPoolSize;
+
+    @Value("${redis.lettuce.computation-thread-pool-size:0}")
+    private int computationThreadPoolSize;
+
+    @Value("${redis.lettuce.tcp-no-delay:true}")
+    private boolean tcpNoDelay;
+
+    @Value("${redis.lettuce.keep-alive.enabled:false}")
+    private boolean keepAliveEnabled;
+
+    @Value("${redis.lettuce.keep-alive.idle:120}")
+    private long keepAliveIdle;
+
+    @Value("${redis.lettuce.keep-alive.interval:10}")
+    private long keepAliveInterval;
+
+    @Value("${redis.lettuce.keep-alive.count:3}")
+    private int keepAliveCount;
+
+    @Value("${redis.event.money-format:decimal}")
+    private String moneyFormat;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     /*
      * Create a shared instance of ClientResources to be used by LettuceConnectionFactory.
      * ClientResources is a shared resource that manages the lifecycle of the Lettuce client.
+     * 
+     * In ClientResources we set the following properties:
+     * * transport: selects the Netty transport (auto, nio, epoll, io_uring) before the event loops are created
+     * * ioThreadPoolSize: defines the number of event-loop threads; 0 keeps the Lettuce default (number of CPUs, at least 2)
+     * * computationThreadPoolSize: defines the number of computation threads; 0 keeps the Lettuce default (number of CPUs, at least 2)
      */
-
     @Bean(destroyMethod = "shutdown")
     public ClientResources clientResources() {
-        return DefaultClientResources.create();
+        LettuceTransport.from(transport).select();
+
+        DefaultClientResources.Builder builder = DefaultClientResources.builder();
+        if (ioThreadPoolSize > 0) {
+            builder.ioThreadPoolSize(ioThreadPoolSize);
+        }
+        if (computationThreadPoolSize > 0) {
+            builder.computationThreadPoolSize(computationThreadPoolSize);
+        }
+
+        ClientResources clientResources = builder.build();
+        logger.info("Lettuce client resources created with transport: {}, I/O threads: {}, computation threads: {}", 
+            LettuceTransport.active(), clientResources.ioThreadPoolSize(), clientResources.computationThreadPoolSize());
+
+        return clientResources;
     }
 
     /*
@@ -79,6 +133,8 @@ public class RedisConfig {
      * * shutdownTimeout: defines the maximum amount of time to wait for the client to close gracefully; If the client is not closed within this time, a TimeoutException is thrown
      * * socketOptions: defines the socket options for the client
      * * connectTimeout: defines the maximum amount of time to wait for a connection to be established before timing out; If the connection is not established within this time, a TimeoutException is thrown
+     * * tcpNoDelay: disables Nagle's algorithm so small PUBLISH commands are not delayed
+     * * keepAlive: enables TCP keepalive; idle, interval and count require the epoll or io_uring transport (or NIO on Java 11+)
      */
     @Bean
     public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
@@ -97,6 +153,13 @@ public class RedisConfig {
             .clientOptions(ClientOptions.builder()
                 .socketOptions(SocketOptions.builder()
                     .connectTimeout(Duration.ofSeconds(connectTimeout)) // Set connection timeout; default is 10s
+                    .tcpNoDelay(tcpNoDelay) // Disable Nagle's algorithm; default is true
+                    .keepAlive(KeepAliveOptions.builder()
+                        .enable(keepAliveEnabled) // Enable TCP keepalive; default is false
+                        .idle(Duration.ofSeconds(keepAliveIdle)) // Idle time before the first probe; default is 2h
+                        .interval(Duration.ofSeconds(keepAliveInterval)) // Time between probes; default is 75s
+                        .count(keepAliveCount) // Probes before the connection is dropped; default is 9
+                        .build())
                     .build())
                 .build())
             .build();
@@ -120,6 +183,7 @@ public class RedisConfig {
      * 
      * StringRedisSerializer is used to serialize keys as strings.
      * GenericJackson2JsonRedisSerializer is used to serialize values as JSON.
+     * Money amounts are written as decimal numbers or, with redis.event.money-format=minor-units, as integer minor units.
      */
     @Bean
     public RedisTemplate<String, Object> redisTemplate() {
@@ -130,6 +194,8 @@ public class RedisConfig {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // Enables Java 8 Time support
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // Optional: Store dates as ISO-8601
+        objectMapper.registerModule(new SimpleModule().addSerializer(Money.class, 
+            new MoneyJsonSerializer(MoneyJsonSerializer.Format.from(moneyFormat)))); // Write amounts as plain numbers
 
         // Use GenericJackson2JsonRedisSerializer with custom ObjectMapper
         GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
@@ -151,4 +217,33 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /*
+     * RedisTemplate for the payment-status:<orderId> keys, to which PaymentStatusIndex writes
+     * every published status. Values are read back as PaymentStatusResponseDTO, so they use a
+     * Jackson2JsonRedisSerializer typed to the DTO instead of the untyped event serializer.
+     */
+    @Bean
+    public RedisTemplate<String, PaymentStatusResponseDTO> paymentStatusRedisTemplate() {
+        RedisTemplate<String, PaymentStatusResponseDTO> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory(this.clientResources()));
+
+        // Use String serializer for keys (payment-status:<orderId>)
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+
+        // Use typed JSON serializer for values (payment statuses)
+        redisTemplate.setValueSerializer(paymentStatusSerializer());
+
+        // Initialize RedisTemplate after setting serializers
+        redisTemplate.afterPropertiesSet();
+
+        return redisTemplate;
+    }
+
+    public static Jackson2JsonRedisSerializer<PaymentStatusResponseDTO> paymentStatusSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule()); // Enables Java 8 Time support
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // Store dates as ISO-8601
+        return new Jackson2JsonRedisSerializer<>(objectMapper, PaymentStatusResponseDTO.class);
+    }
 }
@@ -0,0 +1,57 @@
+package com.yoanesber.spring.redis_publisher_lettuce.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yoanesber.spring.redis_publisher_lettuce.dto.BacklogReplayResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.CustomHttpResponse;
+import com.yoanesber.spring.redis_publisher_lettuce.redis.DeliveryBacklog;
+
+@RestController
+@RequestMapping("/api/v1/backlog")
+public class DeliveryBacklogController {
+    private final DeliveryBacklog deliveryBacklog;
+
+    public DeliveryBacklogController(DeliveryBacklog deliveryBacklog) {
+        this.deliveryBacklog = deliveryBacklog;
+    }
+
+    @GetMapping("/{channel}")
+    public ResponseEntity<CustomHttpResponse> getBacklog(@PathVariable String channel) {
+        try {
+            return ResponseEntity.ok(new CustomHttpResponse(HttpStatus.OK.value(),
+                "Backlog retrieved successfully",
+                new BacklogReplayResponseDTO(channel, 0, deliveryBacklog.size(channel))));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new CustomHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage(), null));
+        }
+    }
+
+    @PostMapping("/{channel}/replay")
+    public ResponseEntity<CustomHttpResponse> replayBacklog(@PathVariable String channel,
+        @RequestParam(defaultValue = "100") int rate,
+        @RequestParam(defaultValue = "500") int limit) {
+        try {
+            // Publish the backlog back onto the channel, oldest first, at most `rate` events per second.
+            // The rate, the limit and the replay duration are capped (see DeliveryBacklog).
+            int replayed = deliveryBacklog.replay(channel, rate, limit);
+
+            return ResponseEntity.ok(new CustomHttpResponse(HttpStatus.OK.value(),
+                "Backlog replayed successfully",
+                new BacklogReplayResponseDTO(channel, replayed, deliveryBacklog.size(channel))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new CustomHttpResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new CustomHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage(), null));
+        }
+    }
+}
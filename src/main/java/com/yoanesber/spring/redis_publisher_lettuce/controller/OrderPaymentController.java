@@ -2,6 +2,8 @@ package com.yoanesber.spring.redis_publisher_lettuce.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.yoanesber.spring.redis_publisher_lettuce.dto.CreateOrderPaymentRequestDTO;
 import com.yoanesber.spring.redis_publisher_lettuce.dto.CreateOrderPaymentResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentStatusResponseDTO;
 import com.yoanesber.spring.redis_publisher_lettuce.entity.CustomHttpResponse;
 import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
 import com.yoanesber.spring.redis_publisher_lettuce.service.OrderPaymentService;
@@ -43,7 +46,7 @@ public class OrderPaymentController {
                 new CreateOrderPaymentResponseDTO(orderPayment.getOrderId(), 
                     orderPayment.getTransactionId(),
                     orderPayment.getPaymentStatus(), 
-                    orderPayment.getAmount(),
+                    orderPayment.getAmount().toBigDecimal(),
                     orderPayment.getCurrency(),
                     orderPayment.getPaymentMethod(),
                     orderPayment.getCreatedAt())));
@@ -52,4 +55,25 @@ public class OrderPaymentController {
                 .body(new CustomHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage(), null));
         }
     }
-}
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<CustomHttpResponse> getPaymentStatus(@PathVariable String orderId) {
+        try {
+            // Get the latest payment status published for the order.
+            PaymentStatusResponseDTO paymentStatus = orderPaymentService.getPaymentStatus(orderId);
+
+            // Check if a payment status was published for the order.
+            if (paymentStatus == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CustomHttpResponse(HttpStatus.NOT_FOUND.value(), 
+                        "Order payment not found", null));
+            }
+
+            return ResponseEntity.ok(new CustomHttpResponse(HttpStatus.OK.value(),
+                "Order payment retrieved successfully", paymentStatus));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new CustomHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage(), null));
+        }
+    }
+}
\ No newline at end of file
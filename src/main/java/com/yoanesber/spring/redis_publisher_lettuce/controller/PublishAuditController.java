@@ -0,0 +1,36 @@
+package com.yoanesber.spring.redis_publisher_lettuce.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yoanesber.spring.redis_publisher_lettuce.audit.PublishAuditLog;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.CustomHttpResponse;
+
+@RestController
+@RequestMapping("/api/v1/publish-audit")
+public class PublishAuditController {
+    private final PublishAuditLog publishAuditLog;
+
+    public PublishAuditController(PublishAuditLog publishAuditLog) {
+        this.publishAuditLog = publishAuditLog;
+    }
+
+    @GetMapping
+    public ResponseEntity<CustomHttpResponse> getPublishAudit(@RequestParam(required = false) String channel,
+        @RequestParam(required = false) String orderId,
+        @RequestParam(defaultValue = "100") int limit) {
+        try {
+            // Return the last `limit` published events, newest first, optionally filtered by channel and order ID.
+            return ResponseEntity.ok(new CustomHttpResponse(HttpStatus.OK.value(),
+                "Publish audit retrieved successfully",
+                publishAuditLog.query(channel, orderId, limit)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new CustomHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage(), null));
+        }
+    }
+}
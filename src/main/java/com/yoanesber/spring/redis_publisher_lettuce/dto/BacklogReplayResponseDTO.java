@@ -0,0 +1,18 @@
+package com.yoanesber.spring.redis_publisher_lettuce.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor // Required for Jackson deserialization when receiving JSON requests.
+@AllArgsConstructor // Helps create DTO objects easily (useful when converting from entities).
+public class BacklogReplayResponseDTO {
+    private String channel; // Redis channel, e.g., PAYMENT_SUCCESS
+    private int replayed; // Number of events delivered by the replay
+    private long remaining; // Number of events left in the backlog
+}
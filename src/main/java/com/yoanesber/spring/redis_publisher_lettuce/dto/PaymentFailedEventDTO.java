@@ -0,0 +1,22 @@
+package com.yoanesber.spring.redis_publisher_lettuce.dto;
+
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor // Required for Jackson deserialization when receiving JSON requests.
+@AllArgsConstructor // Helps create DTO objects easily (useful when converting from entities).
+public class PaymentFailedEventDTO {
+    private String orderId; // Order identifier (linked to Orders table)
+    private String paymentMethod; // e.g., CREDIT_CARD, PAYPAL, BANK_TRANSFER
+    private Money amount; // Payment amount
+    private String currency; // e.g., USD, EUR
+    private String reason; // Why the payment failed
+}
@@ -0,0 +1,26 @@
+package com.yoanesber.spring.redis_publisher_lettuce.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor // Required for Jackson deserialization when receiving JSON requests.
+@AllArgsConstructor // Helps create DTO objects easily (useful when converting from entities).
+public class PaymentStatusResponseDTO {
+    private String orderId; // Order identifier (linked to Orders table)
+    private String transactionId; // Reference from payment gateway; null if the payment failed
+    private String paymentStatus; // SUCCESS, FAILED
+    private BigDecimal amount; // Payment amount
+    private String currency; // e.g., USD, EUR
+    private String paymentMethod; // e.g., CREDIT_CARD, PAYPAL, BANK_TRANSFER
+    private String reason; // Why the payment failed; null if the payment succeeded
+    private Instant updatedAt; // When the status was published
+}
@@ -0,0 +1,24 @@
+package com.yoanesber.spring.redis_publisher_lettuce.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor // Required for Jackson deserialization when receiving JSON requests.
+@AllArgsConstructor // Helps create DTO objects easily (useful when converting from entities).
+public class PublishAuditDTO {
+    private long sequence; // Position in the audit log
+    private Instant timestamp; // When the event was published
+    private String channel; // Redis channel, e.g., PAYMENT_SUCCESS
+    private String orderId; // Order identifier, if known
+    private int payloadSize; // Published payload size in bytes
+    private long latencyMicros; // Time spent publishing, in microseconds
+    private long receivers; // Subscribers that received the event; -1 if the publish failed
+}
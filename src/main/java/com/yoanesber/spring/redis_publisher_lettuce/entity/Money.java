@@ -0,0 +1,179 @@
+package com.yoanesber.spring.redis_publisher_lettuce.entity;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import org.springframework.util.Assert;
+
+/*
+ * Monetary amount stored as an ISO 4217 currency code and a long number of minor units
+ * (e.g., USD 199.99 is 19999 cents), so validation and order math run on longs without
+ * allocating BigDecimal instances.
+ * Conversion from and to BigDecimal is exact and only happens at the REST boundary:
+ * amounts with more fraction digits than the currency allows are rejected, never rounded.
+ * Arithmetic requires both amounts to be in the same currency and fails on overflow.
+ */
+public final class Money implements Comparable<Money> {
+
+    // Integer digits of the largest amount accepted by of(); a long holds 18 digits in full
+    private static final int MAX_INTEGER_DIGITS = 18;
+
+    // Digits of the largest amount, in minor units, converted through double in of();
+    // integers of up to 15 digits are far below 2^53, so the conversion is exact
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+
+    private final String currency;
+    private final long minorUnits;
+    private final int fractionDigits;
+
+    private Money(String currency, long minorUnits, int fractionDigits) {
+        this.currency = currency;
+        this.minorUnits = minorUnits;
+        this.fractionDigits = fractionDigits;
+    }
+
+    /**
+     * Creates an amount from minor units, e.g., ofMinor("USD", 19999) for USD 199.99.
+     *
+     * @param currency the ISO 4217 currency code
+     * @param minorUnits the amount in minor units of the currency
+     * @return the amount
+     */
+    public static Money ofMinor(String currency, long minorUnits) {
+        return new Money(currency, minorUnits, fractionDigits(currency));
+    }
+
+    /**
+     * Converts a decimal amount exactly, e.g., of(199.99, "USD") for 19999 minor units.
+     *
+     * @param amount the decimal amount
+     * @param currency the ISO 4217 currency code
+     * @return the amount
+     * @throws IllegalArgumentException if the currency is unknown, the amount has more
+     *         fraction digits than the currency allows, or it does not fit in a long
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        Assert.notNull(amount, "Amount must not be null");
+        int fractionDigits = fractionDigits(currency);
+
+        // Fast path for request amounts such as 199.99: no more fraction digits than the currency's
+        // and at most 15 digits in minor units. BigDecimal.doubleValue() does not allocate for
+        // such amounts, and the double is within 2^-52 of the exact value, so rounding its
+        // product with 10^fractionDigits gives the exact number of minor units
+        int scale = amount.scale();
+        if (scale >= 0 && scale <= fractionDigits && fractionDigits < POWERS_OF_TEN.length
+            && amount.precision() - scale + fractionDigits <= MAX_DOUBLE_DIGITS) {
+            return new Money(currency, Math.round(amount.doubleValue() * POWERS_OF_TEN[fractionDigits]), fractionDigits);
+        }
+        return ofExact(amount, currency, fractionDigits);
+    }
+
+    // Slow path of of(), kept apart so that the fast path stays small enough to be inlined
+    private static Money ofExact(BigDecimal amount, String currency, int fractionDigits) {
+        // Check the digits before rescaling: setScale on an amount such as 1E+100000000
+        // or 1E-100000000 would build a number with millions of digits
+        BigDecimal stripped = amount.stripTrailingZeros();
+        if (stripped.scale() > fractionDigits) {
+            throw new IllegalArgumentException("Amount " + amount + " has more fraction digits than " + currency + " allows");
+        }
+        if ((long) stripped.precision() - stripped.scale() > MAX_INTEGER_DIGITS) {
+            throw new IllegalArgumentException("Amount " + amount + " is too large");
+        }
+
+        try {
+            long minorUnits = stripped.setScale(fractionDigits).unscaledValue().longValueExact();
+            return new Money(currency, minorUnits, fractionDigits);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount + " cannot be represented exactly in " + currency, e);
+        }
+    }
+
+    private static int fractionDigits(String currency) {
+        Assert.hasText(currency, "Currency must not be empty");
+
+        // Currency instances are cached by the JDK
+        int fractionDigits;
+        try {
+            fractionDigits = Currency.getInstance(currency).getDefaultFractionDigits();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid currency: " + currency, e);
+        }
+
+        // Pseudo-currencies (e.g., XAU) have no minor unit
+        return Math.max(fractionDigits, 0);
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    // Compares the amounts only, ignoring the currency code
+    public boolean hasSameAmount(Money other) {
+        return minorUnits == other.minorUnits && fractionDigits == other.fractionDigits;
+    }
+
+    public Money plus(Money other) {
+        checkCurrency(other);
+        return new Money(currency, Math.addExact(minorUnits, other.minorUnits), fractionDigits);
+    }
+
+    public Money minus(Money other) {
+        checkCurrency(other);
+        return new Money(currency, Math.subtractExact(minorUnits, other.minorUnits), fractionDigits);
+    }
+
+    public Money times(long quantity) {
+        return new Money(currency, Math.multiplyExact(minorUnits, quantity), fractionDigits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits);
+    }
+
+    private void checkCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * currency.hashCode() + Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return currency + " " + toBigDecimal().toPlainString();
+    }
+}
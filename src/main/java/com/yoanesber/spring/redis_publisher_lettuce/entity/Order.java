@@ -1,6 +1,5 @@
 package com.yoanesber.spring.redis_publisher_lettuce.entity;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,7 +20,7 @@ public class Order {
     
     private LocalDateTime orderDate;  // Date and time when the order was placed
     private String orderStatus;  // PENDING, SHIPPED, DELIVERED, etc.
-    private BigDecimal orderTotal;  // Total amount of the order
+    private Money orderTotal;  // Total amount of the order
     private String currency;  // USD, EUR, etc.
     private String customerId;
     private String customerName;
@@ -32,9 +31,9 @@ public class Order {
     private String shippingAddress;
     private String shippingMethod;  // STANDARD, EXPRESS
     private LocalDateTime deliveryDate;
-    private BigDecimal taxAmount; // Tax amount applied to the entire order
+    private Money taxAmount; // Tax amount applied to the entire order
     private String discountCode; // Discount code applied to the entire order, e.g., "DISC50"; it can be member discount, coupon discount, etc.
-    private BigDecimal discountAmount;
+    private Money discountAmount;
     private Instant createdAt = Instant.now();
     private Instant updatedAt = Instant.now();
     private String processedBy;  // Admin or system user processing the order
@@ -1,6 +1,5 @@
 package com.yoanesber.spring.redis_publisher_lettuce.entity;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 import lombok.AllArgsConstructor;
@@ -17,7 +16,7 @@ import lombok.Setter;
 public class OrderPayment {
     private Long id;
     private String orderId; // Order identifier (linked to Orders table)
-    private BigDecimal amount; // Payment amount
+    private Money amount; // Payment amount, in the currency below
     private String currency; // e.g., USD, EUR
     private String paymentMethod; // e.g., CREDIT_CARD, PAYPAL, BANK_TRANSFER
     private String paymentStatus; // PENDING, SUCCESS, FAILED
@@ -0,0 +1,59 @@
+package com.yoanesber.spring.redis_publisher_lettuce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * JFR event for one stage of OrderPaymentService.createOrderPayment.
+ * Disabled by default; while disabled, begin() and commit() are no-ops and the JIT
+ * removes the allocation, so the instrumentation costs nothing until a recording
+ * enables it (-XX:StartFlightRecording:+com.yoanesber.payment.Stage#enabled=true).
+ */
+@Name("com.yoanesber.payment.Stage")
+@Label("Payment Stage")
+@Category({"Order Payment"})
+@Description("Duration of a stage of order payment processing")
+@Enabled(false)
+@StackTrace(false)
+public class PaymentStageEvent extends Event {
+
+    public static final String VALIDATION = "VALIDATION";
+    public static final String ORDER_LOOKUP = "ORDER_LOOKUP";
+    public static final String GATEWAY_CALL = "GATEWAY_CALL";
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Order ID")
+    private String orderId;
+
+    @Label("Payment Method")
+    private String paymentMethod;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * Ends the event and commits it if a recording enables it.
+     * Fields are only assigned when the event will be written.
+     *
+     * @param stage the processing stage, e.g., VALIDATION
+     * @param orderId the order being paid
+     * @param paymentMethod the payment method, e.g., CREDIT_CARD
+     * @param succeeded whether the stage completed without an exception
+     */
+    public void commit(String stage, String orderId, String paymentMethod, boolean succeeded) {
+        if (shouldCommit()) {
+            this.stage = stage;
+            this.orderId = orderId;
+            this.paymentMethod = paymentMethod;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.yoanesber.spring.redis_publisher_lettuce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * JFR event for the serialization and the PUBLISH round trip in MessagePublisher.
+ * Disabled by default, see PaymentStageEvent
+ * (-XX:StartFlightRecording:+com.yoanesber.payment.RedisPublish#enabled=true).
+ */
+@Name("com.yoanesber.payment.RedisPublish")
+@Label("Redis Publish")
+@Category({"Order Payment"})
+@Description("Duration of event serialization or Redis PUBLISH")
+@Enabled(false)
+@StackTrace(false)
+public class RedisPublishEvent extends Event {
+
+    public static final String SERIALIZATION = "SERIALIZATION";
+    public static final String PUBLISH = "PUBLISH";
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Channel")
+    private String channel;
+
+    @Label("Order ID")
+    private String orderId;
+
+    @Label("Payload Size")
+    @DataAmount
+    private int payloadSize;
+
+    /**
+     * Ends the event and commits it if a recording enables it.
+     *
+     * @param stage SERIALIZATION or PUBLISH
+     * @param channel the Redis channel
+     * @param orderId the order the event belongs to, or null
+     * @param payloadSize the size of the published payload in bytes; 0 if unknown
+     */
+    public void commit(String stage, String channel, String orderId, int payloadSize) {
+        if (shouldCommit()) {
+            this.stage = stage;
+            this.channel = channel;
+            this.orderId = orderId;
+            this.payloadSize = payloadSize;
+            commit();
+        }
+    }
+}
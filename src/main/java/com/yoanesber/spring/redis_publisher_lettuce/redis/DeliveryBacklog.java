@@ -0,0 +1,197 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/*
+ * Delivery assurance for Pub/Sub events.
+ * PUBLISH returns the number of subscribers that received a message. When a channel
+ * has fewer receivers than its minimum, the published bytes are kept in a bounded
+ * Redis list (backlog:<channel>) so they can be replayed once consumers reconnect.
+ * New events are pushed to the head of the list and the oldest events beyond the
+ * maximum length are trimmed; replay pops from the tail, oldest first.
+ * Replay delivers at least once: an event that reaches some, but fewer than the
+ * required, subscribers is put back and may be received twice by those subscribers.
+ */
+@Component
+public class DeliveryBacklog {
+
+    private static final String KEY_PREFIX = "backlog:";
+
+    // Pops the oldest event, publishes it and puts it back at the tail if it reached too few subscribers.
+    // Returns -1 if the backlog is empty, 0 if the event was put back and 1 if it was delivered.
+    private static final RedisScript<Long> REPLAY_SCRIPT = RedisScript.of(
+        "local body = redis.call('RPOP', KEYS[1]) " +
+        "if not body then return -1 end " +
+        "local receivers = redis.call('PUBLISH', ARGV[1], body) " +
+        "if receivers < tonumber(ARGV[2]) then " +
+        "  redis.call('RPUSH', KEYS[1], body) " +
+        "  return 0 " +
+        "end " +
+        "return 1", Long.class);
+
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final boolean enabled;
+
+    private final long maxLength;
+
+    private final long defaultMinSubscribers;
+
+    private final Map<String, Long> minSubscribers = new HashMap<>();
+
+    private final int maxReplayRate;
+
+    private final int maxReplayLimit;
+
+    private final long maxReplayNanos;
+
+    public DeliveryBacklog(RedisTemplate<String, Object> redisTemplate,
+        @Value("${redis.delivery.enabled:false}") boolean enabled,
+        @Value("${redis.delivery.backlog.max-length:10000}") long maxLength,
+        @Value("${redis.delivery.default-min-subscribers:1}") long defaultMinSubscribers,
+        @Value("${redis.delivery.min-subscribers:}") String minSubscribers,
+        @Value("${redis.delivery.replay.max-rate:1000}") int maxReplayRate,
+        @Value("${redis.delivery.replay.max-limit:10000}") int maxReplayLimit,
+        @Value("${redis.delivery.replay.max-duration-ms:5000}") long maxReplayDurationMs) {
+        Assert.isTrue(maxLength > 0, "Backlog max length must be greater than zero");
+        Assert.isTrue(maxReplayRate > 0, "Replay max rate must be greater than zero");
+        Assert.isTrue(maxReplayLimit > 0, "Replay max limit must be greater than zero");
+        Assert.isTrue(maxReplayDurationMs > 0, "Replay max duration must be greater than zero");
+
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.maxLength = maxLength;
+        this.defaultMinSubscribers = defaultMinSubscribers;
+        this.maxReplayRate = maxReplayRate;
+        this.maxReplayLimit = maxReplayLimit;
+        this.maxReplayNanos = TimeUnit.MILLISECONDS.toNanos(maxReplayDurationMs);
+
+        // Format: CHANNEL:N[,CHANNEL:N...], e.g., PAYMENT_SUCCESS:2,PAYMENT_FAILED:1
+        for (String entry : StringUtils.commaDelimitedListToStringArray(minSubscribers)) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid redis.delivery.min-subscribers entry: " + entry);
+            }
+            this.minSubscribers.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+        }
+    }
+
+    public long getMinSubscribers(String channel) {
+        return minSubscribers.getOrDefault(channel, defaultMinSubscribers);
+    }
+
+    /**
+     * Checks whether a published event reached fewer subscribers than required.
+     *
+     * @param channel the Redis channel the event was published to
+     * @param receivers the receiver count returned by PUBLISH
+     * @return true if delivery assurance is enabled and the event must be kept
+     */
+    public boolean isUndelivered(String channel, Long receivers) {
+        return enabled && (receivers == null || receivers < getMinSubscribers(channel));
+    }
+
+    /**
+     * Stores the published bytes of an undelivered event in the channel backlog.
+     *
+     * @param channel the Redis channel the event was published to
+     * @param body the serialized event, as published
+     */
+    public void store(String channel, byte[] body) {
+        byte[] key = rawKey(channel);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.listCommands().lPush(key, body);
+            connection.listCommands().lTrim(key, 0, maxLength - 1);
+            return null;
+        });
+    }
+
+    public long size(String channel) {
+        Long size = redisTemplate.execute((RedisCallback<Long>) connection -> connection.listCommands().lLen(rawKey(channel)));
+        return size != null ? size : 0;
+    }
+
+    /**
+     * Publishes backlog events back onto their channel, oldest first, at a fixed rate.
+     * Replay stops when the backlog is empty, when the limit is reached, when the next
+     * event would start after the time budget (redis.delivery.replay.max-duration-ms), or
+     * when an event still reaches fewer subscribers than required; that event is put back
+     * at the tail of the backlog so ordering is preserved.
+     * Replay runs on the caller's thread, so the rate, the limit and the duration are capped.
+     * Each event is popped, published and, if needed, put back by one Lua script, so an
+     * event is never lost if the connection or the application fails in between, and
+     * concurrent replays never publish the same event. An event put back may already
+     * have reached some subscribers, which then receive it again on the next replay.
+     *
+     * @param channel the Redis channel to replay
+     * @param ratePerSecond the maximum number of events published per second
+     * @param limit the maximum number of events to replay
+     * @return the number of events delivered
+     * @throws IllegalArgumentException if the rate or the limit exceeds its configured maximum
+     */
+    public int replay(String channel, int ratePerSecond, int limit) {
+        Assert.hasText(channel, "Channel must not be empty");
+        Assert.isTrue(ratePerSecond > 0 && ratePerSecond <= maxReplayRate, "Rate must be between 1 and " + maxReplayRate);
+        Assert.isTrue(limit > 0 && limit <= maxReplayLimit, "Limit must be between 1 and " + maxReplayLimit);
+
+        List<String> keys = List.of(KEY_PREFIX + channel);
+        String minReceivers = Long.toString(getMinSubscribers(channel));
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long nextSlot = System.nanoTime();
+        long deadline = nextSlot + maxReplayNanos;
+
+        int replayed = 0;
+        while (replayed < limit) {
+            if (nextSlot - deadline > 0) {
+                logger.info("Replay of channel: {} stopped after {} events; time budget of {} ms reached", 
+                    channel, replayed, TimeUnit.NANOSECONDS.toMillis(maxReplayNanos));
+                break;
+            }
+
+            long wait = nextSlot - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            nextSlot += intervalNanos;
+
+            Long result = redisTemplate.execute(REPLAY_SCRIPT, redisTemplate.getStringSerializer(), 
+                RESULT_SERIALIZER, keys, channel, minReceivers);
+
+            if (result == null || result < 0) {
+                break;
+            }
+            if (result == 0) {
+                logger.warn("Replay of channel: {} stopped after {} events; fewer than {} subscribers", channel, replayed, minReceivers);
+                break;
+            }
+            replayed++;
+        }
+
+        logger.info("Replayed {} events from the backlog of channel: {}", replayed, channel);
+        return replayed;
+    }
+
+    private byte[] rawKey(String channel) {
+        return redisTemplate.getStringSerializer().serialize(KEY_PREFIX + channel);
+    }
+}
@@ -0,0 +1,161 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/*
+ * Declarative projection of a message type onto the fields published to a channel.
+ * The getters are resolved once, when the projection is created, and kept as method
+ * handles adapted to (Object)Object, with the field names pre-encoded for Jackson.
+ * A projected event is written straight to the JSON generator by ProjectedEventSerializer:
+ * each field is read through its handle and passed to the field serializer resolved
+ * once per ObjectMapper, without building a map per publish.
+ * Fields are written in declaration order.
+ */
+public final class EventProjection {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String channel;
+    private final Class<?> type;
+    private final SerializedString[] names;
+    private final Class<?>[] fieldTypes;
+    private final MethodHandle[] accessors;
+
+    private EventProjection(String channel, Class<?> type, SerializedString[] names, Class<?>[] fieldTypes, MethodHandle[] accessors) {
+        this.channel = channel;
+        this.type = type;
+        this.names = names;
+        this.fieldTypes = fieldTypes;
+        this.accessors = accessors;
+    }
+
+    /**
+     * Creates a projection and compiles its field accessors.
+     *
+     * @param channel the Redis channel the projection applies to
+     * @param type the message type the projection applies to
+     * @param fields the bean properties to publish, in order
+     * @return the compiled projection
+     * @throws IllegalArgumentException if a field has no public getter on the type
+     */
+    public static EventProjection of(String channel, Class<?> type, String... fields) {
+        Assert.hasText(channel, "Channel must not be empty");
+        Assert.notNull(type, "Type must not be null");
+        Assert.notEmpty(fields, "Fields must not be empty");
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        SerializedString[] names = new SerializedString[fields.length];
+        Class<?>[] fieldTypes = new Class<?>[fields.length];
+        MethodHandle[] accessors = new MethodHandle[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, fields[i]);
+            Method getter = descriptor != null ? descriptor.getReadMethod() : null;
+            if (getter == null) {
+                throw new IllegalArgumentException("No getter for field " + fields[i] + " on " + type.getName() + 
+                    " (projection for channel " + channel + ")");
+            }
+
+            names[i] = new SerializedString(fields[i]);
+            fieldTypes[i] = ClassUtils.resolvePrimitiveIfNecessary(getter.getReturnType());
+            try {
+                accessors[i] = lookup.unreflect(getter).asType(ACCESSOR_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Getter for field " + fields[i] + " on " + type.getName() + " is not accessible", e);
+            }
+        }
+
+        return new EventProjection(channel, type, names, fieldTypes, accessors);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean supports(Object message) {
+        return type.isInstance(message);
+    }
+
+    /**
+     * Binds a message to this projection for publishing.
+     *
+     * @param message the message to project; must be an instance of the projection type
+     * @return the projected event, written with only the configured fields
+     */
+    public ProjectedEvent project(Object message) {
+        return new ProjectedEvent(this, message);
+    }
+
+    /**
+     * Resolves the serializers of the fields whose type is final, so that their value
+     * type is known in advance. Other fields are looked up by value type when written.
+     *
+     * @param provider the serializer provider of the ObjectMapper writing the events
+     * @return the field serializers, in declaration order; null entries are resolved per value
+     * @throws JsonMappingException if a field serializer cannot be constructed
+     */
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<Object>[] resolveSerializers(SerializerProvider provider) throws JsonMappingException {
+        JsonSerializer<Object>[] serializers = new JsonSerializer[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            if (Modifier.isFinal(fieldTypes[i].getModifiers())) {
+                serializers[i] = provider.findValueSerializer(fieldTypes[i], null);
+            }
+        }
+        return serializers;
+    }
+
+    /**
+     * Writes the configured fields of a message as a JSON object.
+     *
+     * @param message the message to write; must be an instance of the projection type
+     * @param serializers the field serializers from {@link #resolveSerializers(SerializerProvider)}
+     * @param gen the generator to write to
+     * @param provider the serializer provider of the ObjectMapper writing the event
+     * @throws IOException if writing fails
+     */
+    public void write(Object message, JsonSerializer<Object>[] serializers, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(message);
+        for (int i = 0; i < names.length; i++) {
+            Object value = get(i, message);
+            gen.writeFieldName(names[i]);
+            if (value == null) {
+                provider.defaultSerializeNull(gen);
+            } else if (serializers[i] != null) {
+                serializers[i].serialize(value, gen, provider);
+            } else {
+                provider.findValueSerializer(value.getClass()).serialize(value, gen, provider);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private Object get(int field, Object message) {
+        try {
+            return (Object) accessors[field].invokeExact(message);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Error projecting " + type.getName() + " for channel " + channel, e);
+        }
+    }
+}
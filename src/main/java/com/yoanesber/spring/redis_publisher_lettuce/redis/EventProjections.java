@@ -0,0 +1,49 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EventProjections {
+
+    private final Map<String, EventProjection> projections = new HashMap<>();
+
+    private final boolean enabled;
+
+    public EventProjections(List<EventProjection> projections, 
+        @Value("${redis.projection.enabled:true}") boolean enabled) {
+        for (EventProjection projection : projections) {
+            EventProjection previous = this.projections.put(projection.getChannel(), projection);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate event projection for channel: " + projection.getChannel());
+            }
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Applies the projection registered for a channel to a message.
+     * Messages without a matching projection (no projection for the channel, or a
+     * different message type) are returned unchanged.
+     *
+     * @param channel the Redis channel the message is published to
+     * @param message the message to be published
+     * @return the projected message, or the message itself
+     */
+    public Object project(String channel, Object message) {
+        if (!enabled) {
+            return message;
+        }
+
+        EventProjection projection = projections.get(channel);
+        if (projection == null || !projection.supports(message)) {
+            return message;
+        }
+
+        return projection.project(message);
+    }
+}
@@ -5,21 +5,41 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import com.yoanesber.spring.redis_publisher_lettuce.redis.MessagePublisher;
+import com.yoanesber.spring.redis_publisher_lettuce.audit.PublishAuditLog;
+import com.yoanesber.spring.redis_publisher_lettuce.jfr.RedisPublishEvent;
 
 @Component
 public class MessagePublisher {
     
     private final RedisTemplate<String, Object> redisTemplate;
 
+    private final EventProjections eventProjections;
+
+    private final PayloadCompressor payloadCompressor;
+
+    private final DeliveryBacklog deliveryBacklog;
+
+    private final PublishAuditLog publishAuditLog;
+
+    private final PaymentStatusIndex paymentStatusIndex;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public MessagePublisher(RedisTemplate<String, Object> redisTemplate) {
+    public MessagePublisher(RedisTemplate<String, Object> redisTemplate, EventProjections eventProjections, 
+        PayloadCompressor payloadCompressor, DeliveryBacklog deliveryBacklog, 
+        PublishAuditLog publishAuditLog, PaymentStatusIndex paymentStatusIndex) {
         this.redisTemplate = redisTemplate;
+        this.eventProjections = eventProjections;
+        this.payloadCompressor = payloadCompressor;
+        this.deliveryBacklog = deliveryBacklog;
+        this.publishAuditLog = publishAuditLog;
+        this.paymentStatusIndex = paymentStatusIndex;
     }
 
     /**
@@ -27,21 +47,102 @@ public class MessagePublisher {
      *
      * @param channel the Redis channel to publish the message to
      * @param message the message to be published
+     * @return the number of subscribers that received the message
      */
-    public void publish(String channel, Object message) {
+    public long publish(String channel, Object message) {
+        return publish(channel, null, message);
+    }
+
+    /**
+     * Publishes a message about an order to a specified Redis channel.
+     * The message is first bound to the channel's projection, if one is registered for its
+     * type (see EventProjectionConfig), so that only the projected fields are written. It is then wrapped in an
+     * envelope ({event, message}) and serialized with the template's value serializer.
+     * Envelopes above the compression threshold are published as a compressed envelope
+     * instead, unless the compressed envelope is not smaller (see PayloadCompressor).
+     * If delivery assurance is enabled and the event reached fewer subscribers than the
+     * channel requires, the published bytes are kept in the channel backlog (see DeliveryBacklog).
+     * Every publish is recorded in the publish audit log (see PublishAuditLog), and
+     * published payment events update the payment status index (see PaymentStatusIndex).
+     * Once PUBLISH has succeeded, failures to update the payment status index or to store
+     * the event in the backlog are logged and do not fail the publish.
+     *
+     * @param channel the Redis channel to publish the message to
+     * @param orderId the order the message belongs to; used for diagnostics only, may be null
+     * @param message the message to be published
+     * @return the number of subscribers that received the message
+     */
+    public long publish(String channel, String orderId, Object message) {
         Assert.hasText(channel, "Channel must not be empty");
         Assert.notNull(message, "Message must not be null");
 
+        long start = System.nanoTime();
+        int payloadSize = 0;
+        int size;
+        byte[] body;
+        Long receivers;
         try {
+            RedisPublishEvent serializationEvent = new RedisPublishEvent();
+            serializationEvent.begin();
+
             Map<String, Object> data = new HashMap<>();
             data.put("event", channel);
-            data.put("message", message);
+            data.put("message", eventProjections.project(channel, message));
 
-            redisTemplate.convertAndSend(channel, data);
-            logger.info("Published message to channel: {} with message: {} and data: {}", channel, message, data);
+            body = serialize(data);
+            size = body.length;
+            if (payloadCompressor.shouldCompress(size)) {
+                // Base64 and the envelope fields can outweigh the LZ4 savings; keep the smaller body
+                byte[] compressed = serialize(payloadCompressor.compress(channel, body));
+                if (compressed.length < size) {
+                    body = compressed;
+                }
+            }
+            payloadSize = body.length;
+            serializationEvent.commit(RedisPublishEvent.SERIALIZATION, channel, orderId, payloadSize);
+
+            RedisPublishEvent publishEvent = new RedisPublishEvent();
+            publishEvent.begin();
+
+            byte[] rawChannel = redisTemplate.getStringSerializer().serialize(channel);
+            byte[] rawBody = body;
+            receivers = redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, rawBody));
+            publishEvent.commit(RedisPublishEvent.PUBLISH, channel, orderId, payloadSize);
         } catch (Exception e) {
+            publishAuditLog.record(channel, orderId, payloadSize, System.nanoTime() - start, -1);
             logger.error("Error publishing message to channel: {}", channel, e);
             throw new RuntimeException("Error publishing message to channel: " + channel, e);
         }
+
+        // The event is out; failures from here on are logged and do not fail the publish
+        try {
+            paymentStatusIndex.onPublished(channel, message);
+        } catch (Exception e) {
+            logger.error("Error updating payment status index for channel: {} and order: {}", channel, orderId, e);
+        }
+
+        if (deliveryBacklog.isUndelivered(channel, receivers)) {
+            try {
+                deliveryBacklog.store(channel, body);
+                logger.warn("Message to channel: {} reached {} of {} required subscribers; stored in backlog", 
+                    channel, receivers, deliveryBacklog.getMinSubscribers(channel));
+            } catch (Exception e) {
+                logger.error("Error storing message to channel: {} for order: {} in backlog", channel, orderId, e);
+            }
+        }
+
+        long receiverCount = receivers != null ? receivers : 0;
+        publishAuditLog.record(channel, orderId, payloadSize, System.nanoTime() - start, receiverCount);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Published message to channel: {} for order: {} ({} bytes, {} on the wire, {} receivers)", 
+                channel, orderId, size, payloadSize, receiverCount);
+        }
+
+        return receiverCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serialize(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
     }
 }
@@ -0,0 +1,71 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+
+@Component
+public class PayloadCompressor {
+
+    public static final String CODEC = "lz4";
+
+    private final boolean enabled;
+
+    private final int threshold;
+
+    // Thread-safe; uses the JNI implementation when available and falls back to pure Java
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+
+    public PayloadCompressor(@Value("${redis.compression.enabled:false}") boolean enabled,
+        @Value("${redis.compression.threshold:1024}") int threshold) {
+        Assert.isTrue(threshold >= 0, "Compression threshold must not be negative");
+
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Checks whether a serialized event envelope should be compressed.
+     *
+     * @param size the size of the serialized envelope in bytes
+     * @return true if compression is enabled and the envelope reaches the threshold
+     */
+    public boolean shouldCompress(int size) {
+        return enabled && size >= threshold;
+    }
+
+    /**
+     * Compresses a serialized event envelope into a compressed envelope.
+     * The compressed envelope carries the following fields:
+     * * event: the channel the event is published to
+     * * compression: the codec used (lz4, raw block format)
+     * * originalSize: the size of the uncompressed envelope; required to decompress an LZ4 block
+     * * message: the compressed envelope, Base64 encoded
+     * 
+     * Subscribers that find a compression field decompress message to get back the
+     * exact bytes of the uncompressed envelope ({event, message}).
+     * Base64 adds a third to the block size, so the serialized compressed envelope can be
+     * larger than the original; MessagePublisher then publishes the original instead.
+     *
+     * @param channel the Redis channel the event is published to
+     * @param body the serialized event envelope
+     * @return the compressed envelope, ready to be serialized
+     */
+    public Map<String, Object> compress(String channel, byte[] body) {
+        byte[] compressed = compressor.compress(body);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("event", channel);
+        data.put("compression", CODEC);
+        data.put("originalSize", body.length);
+        data.put("message", Base64.getEncoder().encodeToString(compressed));
+        return data;
+    }
+}
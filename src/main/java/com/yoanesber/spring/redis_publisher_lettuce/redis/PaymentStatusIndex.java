@@ -0,0 +1,197 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentFailedEventDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentStatusResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+
+/*
+ * Index of the latest payment status per order, fed by MessagePublisher whenever a
+ * PAYMENT_SUCCESS or PAYMENT_FAILED event is published.
+ * Every status is written through to Redis (payment-status:<orderId>, expiring after
+ * redis.status-index.redis-ttl-seconds), so all instances and restarted instances see it.
+ * Each instance also keeps up to `capacity` statuses in memory, in access order, and
+ * serves them for redis.status-index.local-ttl-ms; older or missing entries are read
+ * back from Redis. A status published by another instance is therefore visible here
+ * after at most the local TTL.
+ * The in-memory index is split into segments, each an LRU map with its own lock, so
+ * publishes and lookups of different orders rarely contend.
+ * A status is built once per event and replaced, never updated in place; the returned
+ * statuses are shared and must not be modified.
+ */
+@Component
+public class PaymentStatusIndex {
+
+    private static final String KEY_PREFIX = "payment-status:";
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final ValueOperations<String, PaymentStatusResponseDTO> valueOperations;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Segment[] segments;
+
+    private final int segmentMask;
+
+    private final long localTtlNanos;
+
+    private final Duration redisTtl;
+
+    public PaymentStatusIndex(RedisTemplate<String, PaymentStatusResponseDTO> paymentStatusRedisTemplate,
+        @Value("${redis.status-index.capacity:100000}") int capacity,
+        @Value("${redis.status-index.local-ttl-ms:5000}") long localTtlMs,
+        @Value("${redis.status-index.redis-ttl-seconds:86400}") long redisTtlSeconds) {
+        Assert.isTrue(capacity > 0, "Status index capacity must be greater than zero");
+        Assert.isTrue(localTtlMs >= 0, "Status index local TTL must not be negative");
+        Assert.isTrue(redisTtlSeconds > 0, "Status index Redis TTL must be greater than zero");
+
+        this.valueOperations = paymentStatusRedisTemplate.opsForValue();
+        this.localTtlNanos = TimeUnit.MILLISECONDS.toNanos(localTtlMs);
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        // A power-of-two number of segments, each holding an equal share of the capacity
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(capacity));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(capacity / segmentCount);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * Updates the index from a published event.
+     * Only PAYMENT_SUCCESS events carrying an OrderPayment and PAYMENT_FAILED events
+     * carrying a PaymentFailedEventDTO change the index; other events are ignored.
+     *
+     * @param channel the Redis channel the event was published to
+     * @param message the published message, before projection
+     */
+    public void onPublished(String channel, Object message) {
+        PaymentStatusResponseDTO status;
+        if ("PAYMENT_SUCCESS".equals(channel) && message instanceof OrderPayment orderPayment) {
+            status = new PaymentStatusResponseDTO(orderPayment.getOrderId(),
+                orderPayment.getTransactionId(),
+                orderPayment.getPaymentStatus(),
+                orderPayment.getAmount().toBigDecimal(),
+                orderPayment.getCurrency(),
+                orderPayment.getPaymentMethod(),
+                null,
+                Instant.now());
+        } else if ("PAYMENT_FAILED".equals(channel) && message instanceof PaymentFailedEventDTO failed) {
+            status = new PaymentStatusResponseDTO(failed.getOrderId(),
+                null,
+                "FAILED",
+                failed.getAmount() != null ? failed.getAmount().toBigDecimal() : null,
+                failed.getCurrency(),
+                failed.getPaymentMethod(),
+                failed.getReason(),
+                Instant.now());
+        } else {
+            return;
+        }
+
+        if (status.getOrderId() == null) {
+            return;
+        }
+
+        segmentFor(status.getOrderId()).put(status.getOrderId(), new Entry(status, System.nanoTime()));
+
+        // Write through, so other instances and restarts see the status
+        try {
+            valueOperations.set(KEY_PREFIX + status.getOrderId(), status, redisTtl);
+        } catch (Exception e) {
+            logger.error("Error writing payment status for order: {} to Redis", status.getOrderId(), e);
+        }
+    }
+
+    /**
+     * Returns the latest payment status of an order.
+     *
+     * @param orderId the order identifier
+     * @return the payment status, or null if no status was published for the order
+     */
+    public PaymentStatusResponseDTO find(String orderId) {
+        Assert.hasText(orderId, "Order ID must not be empty");
+
+        Segment segment = segmentFor(orderId);
+        long now = System.nanoTime();
+        Entry cached = segment.get(orderId);
+        if (cached != null && now - cached.cachedAt < localTtlNanos) {
+            return cached.status;
+        }
+
+        // Missing or older than the local TTL: Redis holds the latest status of every instance
+        PaymentStatusResponseDTO status;
+        try {
+            status = valueOperations.get(KEY_PREFIX + orderId);
+        } catch (RuntimeException e) {
+            if (cached == null) {
+                throw e;
+            }
+            logger.warn("Error reading payment status for order: {} from Redis; serving the cached status", orderId, e);
+            return cached.status;
+        }
+
+        if (status == null) {
+            // Expired in Redis, or the write-through failed
+            return cached != null ? cached.status : null;
+        }
+        return segment.promote(orderId, cached, new Entry(status, now)).status;
+    }
+
+    private Segment segmentFor(String orderId) {
+        int hash = orderId.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private record Entry(PaymentStatusResponseDTO status, long cachedAt) {
+    }
+
+    // LRU map of one segment; every access holds the segment lock
+    private static final class Segment {
+
+        private final Map<String, Entry> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized Entry get(String orderId) {
+            return entries.get(orderId);
+        }
+
+        synchronized void put(String orderId, Entry entry) {
+            entries.put(orderId, entry);
+        }
+
+        // Caches a status read from Redis, unless the entry changed since it was read
+        // (a newer status was published meanwhile); returns the entry that is kept
+        synchronized Entry promote(String orderId, Entry read, Entry loaded) {
+            Entry current = entries.get(orderId);
+            if (current != null && current != read) {
+                return current;
+            }
+            entries.put(orderId, loaded);
+            return loaded;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/*
+ * A message bound to the projection it is published with.
+ * Nothing is copied when the message is projected; the fields are read from the
+ * message by ProjectedEventSerializer while the event is written. The serializer is bound
+ * to the type, so no ObjectMapper can fall back to writing the full message.
+ */
+@JsonSerialize(using = ProjectedEventSerializer.class)
+public final class ProjectedEvent {
+
+    private final EventProjection projection;
+    private final Object message;
+
+    ProjectedEvent(EventProjection projection, Object message) {
+        this.projection = projection;
+        this.message = message;
+    }
+
+    public EventProjection getProjection() {
+        return projection;
+    }
+
+    public Object getMessage() {
+        return message;
+    }
+}
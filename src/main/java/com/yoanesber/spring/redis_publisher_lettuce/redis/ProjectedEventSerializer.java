@@ -0,0 +1,38 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/*
+ * Writes projected events as a JSON object of the projection's fields.
+ * The field serializers of each projection are resolved once against this ObjectMapper
+ * (RedisWarmup does it at startup for the event template) and cached here, so writing an event only invokes the
+ * projection's getter handles and the cached serializers, without an intermediate map.
+ */
+public class ProjectedEventSerializer extends StdSerializer<ProjectedEvent> {
+
+    // Keyed by projection identity; one entry per projection bean
+    private final Map<EventProjection, JsonSerializer<Object>[]> fieldSerializers = new ConcurrentHashMap<>();
+
+    public ProjectedEventSerializer() {
+        super(ProjectedEvent.class);
+    }
+
+    @Override
+    public void serialize(ProjectedEvent value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        EventProjection projection = value.getProjection();
+        JsonSerializer<Object>[] serializers = fieldSerializers.get(projection);
+        if (serializers == null) {
+            serializers = projection.resolveSerializers(provider);
+            fieldSerializers.put(projection, serializers);
+        }
+
+        projection.write(value.getMessage(), serializers, gen, provider);
+    }
+}
@@ -0,0 +1,96 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentFailedEventDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+
+@Component
+public class RedisWarmup implements ApplicationRunner {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final EventProjections eventProjections;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${redis.warmup.enabled:true}")
+    private boolean enabled;
+
+    public RedisWarmup(RedisTemplate<String, Object> redisTemplate, EventProjections eventProjections) {
+        this.redisTemplate = redisTemplate;
+        this.eventProjections = eventProjections;
+    }
+
+    /**
+     * Opens the shared Lettuce connection and primes the JSON serializer before the
+     * application accepts traffic. Spring Boot only switches the readiness state to
+     * ACCEPTING_TRAFFIC after all ApplicationRunners have completed, so the readiness
+     * probe stays red until the first publish no longer pays for the connection
+     * handshake and the Jackson serializer construction.
+     * A failed warm-up is logged and does not abort startup; the first publish will
+     * then open the connection itself.
+     *
+     * @param args the application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            // Open the shared connection (TCP connect, AUTH, HELLO) with a round trip
+            String pong = redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+
+            // Build and cache the Jackson serializers for the projected event envelopes,
+            // including the field serializers of each projection
+            RedisSerializer<?> valueSerializer = redisTemplate.getValueSerializer();
+            serialize(valueSerializer, envelope("PAYMENT_SUCCESS", samplePayment()));
+            serialize(valueSerializer, envelope("PAYMENT_FAILED", new PaymentFailedEventDTO("WARMUP", 
+                "CREDIT_CARD", Money.ofMinor("USD", 100), "USD", "Payment processing failed: warm-up")));
+
+            logger.info("Redis warm-up completed in {} ms (ping: {})", (System.nanoTime() - start) / 1_000_000, pong);
+        } catch (Exception e) {
+            logger.warn("Redis warm-up failed after {} ms; the first publish will open the connection", 
+                (System.nanoTime() - start) / 1_000_000, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void serialize(RedisSerializer<?> serializer, Object value) {
+        ((RedisSerializer<Object>) serializer).serialize(value);
+    }
+
+    private Map<String, Object> envelope(String channel, Object message) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("event", channel);
+        data.put("message", eventProjections.project(channel, message));
+        return data;
+    }
+
+    private static OrderPayment samplePayment() {
+        OrderPayment orderPayment = new OrderPayment();
+        orderPayment.setOrderId("WARMUP");
+        orderPayment.setAmount(Money.ofMinor("USD", 100));
+        orderPayment.setCurrency("USD");
+        orderPayment.setPaymentMethod("CREDIT_CARD");
+        orderPayment.setPaymentStatus("SUCCESS");
+        orderPayment.setTransactionId("WARMUP");
+        return orderPayment;
+    }
+}
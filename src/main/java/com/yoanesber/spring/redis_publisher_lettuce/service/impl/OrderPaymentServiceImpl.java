@@ -1,6 +1,5 @@
 package com.yoanesber.spring.redis_publisher_lettuce.service.impl;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,12 +9,17 @@ import org.springframework.util.Assert;
 import com.yoanesber.spring.redis_publisher_lettuce.dto.CreateOrderPaymentRequestDTO;
 import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentBankRequestDTO;
 import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentCCRequestDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentFailedEventDTO;
 import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentPaypalRequestDTO;
 import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentStatusResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
 import com.yoanesber.spring.redis_publisher_lettuce.entity.Order;
 import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderDetail;
 import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+import com.yoanesber.spring.redis_publisher_lettuce.jfr.PaymentStageEvent;
 import com.yoanesber.spring.redis_publisher_lettuce.redis.MessagePublisher;
+import com.yoanesber.spring.redis_publisher_lettuce.redis.PaymentStatusIndex;
 import com.yoanesber.spring.redis_publisher_lettuce.service.OrderPaymentService;
 
 @Service
@@ -23,8 +27,11 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
 
     private final MessagePublisher messagePublisher;
 
-    public OrderPaymentServiceImpl(MessagePublisher messagePublisher) {
+    private final PaymentStatusIndex paymentStatusIndex;
+
+    public OrderPaymentServiceImpl(MessagePublisher messagePublisher, PaymentStatusIndex paymentStatusIndex) {
         this.messagePublisher = messagePublisher;
+        this.paymentStatusIndex = paymentStatusIndex;
     }
 
     private Order getOrderByID (String orderId) {
@@ -41,7 +48,7 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         order.setOrderStatus("PENDING");
 
         // Order Total (e.g., total price of items)
-        order.setOrderTotal(new BigDecimal("199.99"));
+        order.setOrderTotal(Money.ofMinor("IDR", 19999)); // 199.99
 
         // Currency
         order.setCurrency("IDR");
@@ -62,9 +69,9 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         order.setDeliveryDate(LocalDateTime.now().plusDays(5)); // Expected delivery in 5 days
 
         // Tax and Discount
-        order.setTaxAmount(new BigDecimal("9.99"));
+        order.setTaxAmount(Money.ofMinor("IDR", 999)); // 9.99
         order.setDiscountCode("DISCOUNT10");
-        order.setDiscountAmount(new BigDecimal("10.00"));
+        order.setDiscountAmount(Money.ofMinor("IDR", 1000)); // 10.00
 
         // Metadata
         order.setCreatedAt(Instant.now());
@@ -76,11 +83,11 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         OrderDetail orderDetail = new OrderDetail();
         orderDetail.setProductId("PROD1001");
         orderDetail.setProductName("Product A");
-        orderDetail.setProductPrice(new BigDecimal("99.99"));
+        orderDetail.setProductPrice(Money.ofMinor("IDR", 9999)); // 99.99
         orderDetail.setQuantity(2);
-        orderDetail.setSubtotal(orderDetail.getProductPrice().multiply(new BigDecimal(orderDetail.getQuantity())));
-        orderDetail.setDiscountAmount(new BigDecimal("10.00"));
-        orderDetail.setTotalPrice(orderDetail.getSubtotal().subtract(orderDetail.getDiscountAmount()));
+        orderDetail.setSubtotal(orderDetail.getProductPrice().times(orderDetail.getQuantity()));
+        orderDetail.setDiscountAmount(Money.ofMinor("IDR", 1000)); // 10.00
+        orderDetail.setTotalPrice(orderDetail.getSubtotal().minus(orderDetail.getDiscountAmount()));
         orderDetail.setProductImageUrl("https://example.com/product-a.jpg");
         orderDetail.setNotes("No special notes");
 
@@ -90,12 +97,14 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         return order;
     }
 
-    private void validateOrderPayment(CreateOrderPaymentRequestDTO orderPaymentDTO) {
+    // Validates the request and returns the payment amount, converted exactly to minor units
+    private Money validateOrderPayment(CreateOrderPaymentRequestDTO orderPaymentDTO) {
         Assert.notNull(orderPaymentDTO, "OrderPaymentDTO must not be null");
         Assert.notNull(orderPaymentDTO.getOrderId(), "Order ID must not be null");
         Assert.notNull(orderPaymentDTO.getAmount(), "Amount must not be null");
-        Assert.isTrue(orderPaymentDTO.getAmount().compareTo(BigDecimal.ZERO) > 0, "Amount must be greater than zero");
         Assert.notNull(orderPaymentDTO.getCurrency(), "Currency must not be null");
+        Money amount = Money.of(orderPaymentDTO.getAmount(), orderPaymentDTO.getCurrency());
+        Assert.isTrue(amount.isPositive(), "Amount must be greater than zero");
         Assert.notNull(orderPaymentDTO.getPaymentMethod(), "Payment method must not be null");
 
         if (orderPaymentDTO.getPaymentMethod().equalsIgnoreCase("CREDIT_CARD")) {
@@ -112,7 +121,11 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         }
 
         // Check if the order exists
+        PaymentStageEvent lookupEvent = new PaymentStageEvent();
+        lookupEvent.begin();
         Order order = this.getOrderByID(orderPaymentDTO.getOrderId());
+        lookupEvent.commit(PaymentStageEvent.ORDER_LOOKUP, orderPaymentDTO.getOrderId(), 
+            orderPaymentDTO.getPaymentMethod(), order != null);
         if (order == null) {
             throw new IllegalArgumentException("Order not found: " + orderPaymentDTO.getOrderId());
         }
@@ -122,16 +135,17 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
             throw new IllegalArgumentException("Order payment status is not PENDING_PAYMENT: " + order.getPaymentStatus());
         }
 
-        // Check if the payment amount matches the order total
-        if (order.getOrderTotal().compareTo(orderPaymentDTO.getAmount()) != 0) {
+        // Check if the payment amount matches the order total (amounts only, the currency is not checked)
+        if (!order.getOrderTotal().hasSameAmount(amount)) {
             throw new IllegalArgumentException("Payment amount does not match order total");
         }
 
         // Additional validation checks can be added here
 
+        return amount;
     }
 
-    private PaymentResponseDTO processPaymentWithCC(PaymentCCRequestDTO paymentCCRequestDTO) {
+    private PaymentResponseDTO processPaymentWithCC(PaymentCCRequestDTO paymentCCRequestDTO, Money amount) {
         Assert.notNull(paymentCCRequestDTO, "PaymentCCRequestDTO must not be null");
 
         // Call the credit card payment gateway API
@@ -151,13 +165,17 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
 
             return new PaymentResponseDTO(transactionId, paymentStatus);
         } catch (InterruptedException e) {
-            messagePublisher.publish("PAYMENT_FAILED", "Error processing credit card payment for order " + 
-                paymentCCRequestDTO.getOrderId() + ": " + e.getMessage());
+            messagePublisher.publish("PAYMENT_FAILED", paymentCCRequestDTO.getOrderId(), 
+                new PaymentFailedEventDTO(paymentCCRequestDTO.getOrderId(), 
+                    "CREDIT_CARD", 
+                    amount, 
+                    paymentCCRequestDTO.getCurrency(),
+                    "Error processing credit card payment: " + e.getMessage()));
             return null;
         }
     }
 
-    private PaymentResponseDTO processPaymentWithPaypal(PaymentPaypalRequestDTO paymentPaypalRequestDTO) {
+    private PaymentResponseDTO processPaymentWithPaypal(PaymentPaypalRequestDTO paymentPaypalRequestDTO, Money amount) {
         Assert.notNull(paymentPaypalRequestDTO, "PaymentPaypalRequestDTO must not be null");
 
         // Call the PayPal payment gateway API
@@ -177,13 +195,17 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
 
             return new PaymentResponseDTO(transactionId, paymentStatus);
         } catch (InterruptedException e) {
-            messagePublisher.publish("PAYMENT_FAILED", "Error processing PayPal payment for order " + 
-                paymentPaypalRequestDTO.getOrderId() + ": " + e.getMessage());
+            messagePublisher.publish("PAYMENT_FAILED", paymentPaypalRequestDTO.getOrderId(), 
+                new PaymentFailedEventDTO(paymentPaypalRequestDTO.getOrderId(), 
+                    "PAYPAL", 
+                    amount, 
+                    paymentPaypalRequestDTO.getCurrency(),
+                    "Error processing PayPal payment: " + e.getMessage()));
             return null;
         }
     }
 
-    private PaymentResponseDTO processPaymentWithBank(PaymentBankRequestDTO paymentBankRequestDTO) {
+    private PaymentResponseDTO processPaymentWithBank(PaymentBankRequestDTO paymentBankRequestDTO, Money amount) {
         Assert.notNull(paymentBankRequestDTO, "PaymentBankRequestDTO must not be null");
 
         // Call the bank transfer payment gateway API
@@ -203,13 +225,17 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
 
             return new PaymentResponseDTO(transactionId, paymentStatus);
         } catch (InterruptedException e) {
-            messagePublisher.publish("PAYMENT_FAILED", "Error processing bank transfer payment for order " + 
-                paymentBankRequestDTO.getOrderId() + ": " + e.getMessage());
+            messagePublisher.publish("PAYMENT_FAILED", paymentBankRequestDTO.getOrderId(), 
+                new PaymentFailedEventDTO(paymentBankRequestDTO.getOrderId(), 
+                    "BANK_TRANSFER", 
+                    amount, 
+                    paymentBankRequestDTO.getCurrency(),
+                    "Error processing bank transfer payment: " + e.getMessage()));
             return null;
         }
     }
 
-    private PaymentResponseDTO processPayment(CreateOrderPaymentRequestDTO orderPaymentDTO) {
+    private PaymentResponseDTO processPayment(CreateOrderPaymentRequestDTO orderPaymentDTO, Money amount) {
         Assert.notNull(orderPaymentDTO, "OrderPaymentDTO must not be null");
 
         if (orderPaymentDTO.getPaymentMethod().equalsIgnoreCase("CREDIT_CARD")) {
@@ -218,39 +244,61 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
                 orderPaymentDTO.getCurrency(),
                 orderPaymentDTO.getCardNumber(),
                 orderPaymentDTO.getCardExpiry(),
-                orderPaymentDTO.getCardCvv()));
+                orderPaymentDTO.getCardCvv()), amount);
         } else if (orderPaymentDTO.getPaymentMethod().equalsIgnoreCase("PAYPAL")) {
             return processPaymentWithPaypal(new PaymentPaypalRequestDTO(orderPaymentDTO.getOrderId(), 
                 orderPaymentDTO.getAmount(), 
                 orderPaymentDTO.getCurrency(),
-                orderPaymentDTO.getPaypalEmail()));
+                orderPaymentDTO.getPaypalEmail()), amount);
         } else if (orderPaymentDTO.getPaymentMethod().equalsIgnoreCase("BANK_TRANSFER")) {
             return processPaymentWithBank(new PaymentBankRequestDTO(orderPaymentDTO.getOrderId(), 
                 orderPaymentDTO.getAmount(), 
                 orderPaymentDTO.getCurrency(),
                 orderPaymentDTO.getBankAccount(),
-                orderPaymentDTO.getBankName()));
+                orderPaymentDTO.getBankName()), amount);
         } else {
             return null; // Invalid payment method
         }
     }
 
+    private void publishPaymentFailed(CreateOrderPaymentRequestDTO orderPaymentDTO, Money amount, String reason) {
+        messagePublisher.publish("PAYMENT_FAILED", orderPaymentDTO.getOrderId(), 
+            new PaymentFailedEventDTO(orderPaymentDTO.getOrderId(), 
+                orderPaymentDTO.getPaymentMethod(), 
+                amount, 
+                orderPaymentDTO.getCurrency(),
+                "Payment processing failed: " + reason));
+    }
+
     @Override
     public OrderPayment createOrderPayment(CreateOrderPaymentRequestDTO orderPaymentDTO) {
         Assert.notNull(orderPaymentDTO, "OrderPaymentDTO must not be null");
         
         // Validate request (check order exists, amount is valid, etc.)
-        this.validateOrderPayment(orderPaymentDTO);
+        PaymentStageEvent validationEvent = new PaymentStageEvent();
+        validationEvent.begin();
+        boolean valid = false;
+        Money amount;
+        try {
+            amount = this.validateOrderPayment(orderPaymentDTO);
+            valid = true;
+        } finally {
+            validationEvent.commit(PaymentStageEvent.VALIDATION, orderPaymentDTO.getOrderId(), 
+                orderPaymentDTO.getPaymentMethod(), valid);
+        }
         
         // Call the payment gateway API and get the transaction details
         String paymentStatus = "FAILED"; // Default to FAILED
         String transactionId = "";
-        PaymentResponseDTO paymentResponse = this.processPayment(orderPaymentDTO);
+        PaymentStageEvent gatewayEvent = new PaymentStageEvent();
+        gatewayEvent.begin();
+        PaymentResponseDTO paymentResponse = this.processPayment(orderPaymentDTO, amount);
+        gatewayEvent.commit(PaymentStageEvent.GATEWAY_CALL, orderPaymentDTO.getOrderId(), 
+            orderPaymentDTO.getPaymentMethod(), paymentResponse != null);
 
         // Check if the payment response is null (indicating a failure)
         if (paymentResponse == null) {
-            messagePublisher.publish("PAYMENT_FAILED", "Payment processing failed for order " + 
-                orderPaymentDTO.getOrderId() + ": Payment response is null");
+            this.publishPaymentFailed(orderPaymentDTO, amount, "Payment response is null");
                 
             throw new IllegalArgumentException("Payment processing failed: Payment response is null");
         }
@@ -262,8 +310,7 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         // Check if the payment status is "FAILED"
         if (paymentStatus.equalsIgnoreCase("FAILED") || transactionId == null || transactionId.isEmpty()) {
             // If payment failed, publish a Redis event to the "PAYMENT_FAILED" channel
-            messagePublisher.publish("PAYMENT_FAILED", "Payment processing failed for order " + 
-                orderPaymentDTO.getOrderId() + ": Payment status is FAILED or transaction ID is empty");
+            this.publishPaymentFailed(orderPaymentDTO, amount, "Payment status is FAILED or transaction ID is empty");
 
             throw new IllegalArgumentException("Payment processing failed: " + 
                 "Payment status is FAILED or transaction ID is empty");
@@ -272,7 +319,7 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         // Create an OrderPayment entity
         OrderPayment orderPayment = new OrderPayment();
         orderPayment.setOrderId(orderPaymentDTO.getOrderId());
-        orderPayment.setAmount(orderPaymentDTO.getAmount());
+        orderPayment.setAmount(amount);
         orderPayment.setCurrency(orderPaymentDTO.getCurrency());
         orderPayment.setPaymentMethod(orderPaymentDTO.getPaymentMethod());
         orderPayment.setPaymentStatus(paymentStatus);
@@ -295,9 +342,17 @@ public class OrderPaymentServiceImpl implements OrderPaymentService {
         // Save the OrderPayment entity to the database
         
         // Publish a Redis event to the "PAYMENT_SUCCESS" channel if successful
-        messagePublisher.publish("PAYMENT_SUCCESS", orderPayment);
+        messagePublisher.publish("PAYMENT_SUCCESS", orderPayment.getOrderId(), orderPayment);
 
         // For simplicity, we will return the OrderPayment object directly
         return orderPayment;
     }
-}
+
+    @Override
+    public PaymentStatusResponseDTO getPaymentStatus(String orderId) {
+        Assert.hasText(orderId, "Order ID must not be empty");
+
+        // Served from the in-memory index fed by published PAYMENT_SUCCESS / PAYMENT_FAILED events
+        return paymentStatusIndex.find(orderId);
+    }
+}
\ No newline at end of file
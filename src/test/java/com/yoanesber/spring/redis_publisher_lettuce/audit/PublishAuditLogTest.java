@@ -0,0 +1,74 @@
+package com.yoanesber.spring.redis_publisher_lettuce.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PublishAuditDTO;
+
+class PublishAuditLogTest {
+
+	// A sample rate of 0 keeps the background logger off
+	private final PublishAuditLog auditLog = new PublishAuditLog(8, 0, 1000);
+
+	@Test
+	void returnsRecordsNewestFirst() {
+		auditLog.record("PAYMENT_SUCCESS", "ORD1", 100, 2_000, 1);
+		auditLog.record("PAYMENT_SUCCESS", "ORD2", 200, 3_000, 2);
+		auditLog.record("PAYMENT_FAILED", "ORD3", 300, 4_000, 0);
+
+		List<PublishAuditDTO> records = auditLog.query(null, null, 10);
+
+		assertThat(records).extracting(PublishAuditDTO::getSequence).containsExactly(2L, 1L, 0L);
+		assertThat(records.get(0).getChannel()).isEqualTo("PAYMENT_FAILED");
+		assertThat(records.get(0).getOrderId()).isEqualTo("ORD3");
+		assertThat(records.get(0).getPayloadSize()).isEqualTo(300);
+		assertThat(records.get(0).getLatencyMicros()).isEqualTo(4);
+		assertThat(records.get(0).getReceivers()).isZero();
+	}
+
+	@Test
+	void keepsOnlyTheLastCapacityRecordsAfterWraparound() {
+		for (int i = 0; i < 20; i++) {
+			auditLog.record("PAYMENT_SUCCESS", "ORD" + i, 100, 1_000, 1);
+		}
+
+		List<PublishAuditDTO> records = auditLog.query(null, null, 100);
+
+		assertThat(records).extracting(PublishAuditDTO::getSequence).containsExactly(19L, 18L, 17L, 16L, 15L, 14L, 13L, 12L);
+		assertThat(records).extracting(PublishAuditDTO::getOrderId).startsWith("ORD19").endsWith("ORD12");
+	}
+
+	@Test
+	void filtersByChannelAndOrder() {
+		auditLog.record("PAYMENT_SUCCESS", "ORD1", 100, 1_000, 1);
+		auditLog.record("PAYMENT_FAILED", "ORD1", 100, 1_000, 1);
+		auditLog.record("PAYMENT_SUCCESS", "ORD2", 100, 1_000, 1);
+
+		assertThat(auditLog.query("PAYMENT_SUCCESS", null, 10)).extracting(PublishAuditDTO::getSequence).containsExactly(2L, 0L);
+		assertThat(auditLog.query(null, "ORD1", 10)).extracting(PublishAuditDTO::getSequence).containsExactly(1L, 0L);
+		assertThat(auditLog.query("PAYMENT_FAILED", "ORD1", 10)).extracting(PublishAuditDTO::getSequence).containsExactly(1L);
+		assertThat(auditLog.query("PAYMENT_FAILED", "ORD2", 10)).isEmpty();
+	}
+
+	@Test
+	void returnsAtMostLimitRecords() {
+		for (int i = 0; i < 5; i++) {
+			auditLog.record("PAYMENT_SUCCESS", "ORD" + i, 100, 1_000, 1);
+		}
+
+		assertThat(auditLog.query(null, null, 2)).extracting(PublishAuditDTO::getSequence).containsExactly(4L, 3L);
+		assertThatIllegalArgumentException().isThrownBy(() -> auditLog.query(null, null, 0));
+	}
+
+	@Test
+	void rejectsInvalidConfiguration() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new PublishAuditLog(6, 0, 1000));
+		assertThatIllegalArgumentException().isThrownBy(() -> new PublishAuditLog(8, -1, 1000));
+		assertThatIllegalArgumentException().isThrownBy(() -> new PublishAuditLog(8, 100, 0));
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.yoanesber.spring.redis_publisher_lettuce.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yoanesber.spring.redis_publisher_lettuce.config.LettuceTransport;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+
+/*
+ * Publish throughput and latency across Lettuce transports and event-loop sizes.
+ * Every fork is a fresh JVM, so the transport is selected before Lettuce loads its providers.
+ * Requires a running Redis; the URI defaults to redis://localhost:6379 and can be set with -Dbench.redis.uri
+ * on the mvn command line (the benchmark profile passes it to the JMH JVM, whose forks inherit it).
+ * 
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=LettuceTransportBenchmark
+ * To benchmark io_uring, add the io-uring profile and override the transport parameter:
+ * mvn -Pbenchmark,io-uring test-compile exec:exec -Dbenchmark=LettuceTransportBenchmark -Dbenchmark.args="-p transport=nio,epoll,io_uring"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class LettuceTransportBenchmark {
+
+    private static final byte[] CHANNEL = "BENCHMARK_PAYMENT_SUCCESS".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"nio", "epoll"})
+    private String transport;
+
+    @Param({"2", "4", "8"})
+    private int ioThreads;
+
+    private ClientResources clientResources;
+    private RedisClient redisClient;
+    private StatefulRedisConnection<byte[], byte[]> connection;
+    private RedisCommands<byte[], byte[]> commands;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LettuceTransport requested = LettuceTransport.from(transport);
+        requested.select();
+
+        clientResources = DefaultClientResources.builder()
+            .ioThreadPoolSize(ioThreads)
+            .build();
+
+        if (LettuceTransport.active() != requested) {
+            throw new IllegalStateException("Transport " + requested + " is not available, Lettuce uses " + LettuceTransport.active());
+        }
+
+        redisClient = RedisClient.create(clientResources, RedisURI.create(System.getProperty("bench.redis.uri", "redis://localhost:6379")));
+        redisClient.setOptions(ClientOptions.builder()
+            .socketOptions(SocketOptions.builder().tcpNoDelay(true).build())
+            .build());
+
+        // Single shared connection, as used by LettuceConnectionFactory
+        connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        commands = connection.sync();
+        payload = PaymentPayloads.successEnvelopeJson().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connection.close();
+        redisClient.shutdown();
+        clientResources.shutdown();
+    }
+
+    @Benchmark
+    public Long publish() {
+        return commands.publish(CHANNEL, payload);
+    }
+}
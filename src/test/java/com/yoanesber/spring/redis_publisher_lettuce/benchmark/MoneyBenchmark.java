@@ -0,0 +1,112 @@
+package com.yoanesber.spring.redis_publisher_lettuce.benchmark;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.yoanesber.spring.redis_publisher_lettuce.config.MoneyJsonSerializer;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+
+/*
+ * Time and allocation of payment amount handling, BigDecimal (before) vs. Money (after).
+ * * validate*: amount checks of validateOrderPayment plus the order line math of getOrderByID
+ * * serialize*: PAYMENT_SUCCESS envelope with a BigDecimal amount, a Money amount written as
+ *   a decimal, and a Money amount written as integer minor units
+ * Allocation per operation is reported by the gc profiler (gc.alloc.rate.norm).
+ * 
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=MoneyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final BigDecimal ORDER_TOTAL = new BigDecimal("199.99");
+    private static final BigDecimal PRODUCT_PRICE = new BigDecimal("99.99");
+    private static final BigDecimal LINE_DISCOUNT = new BigDecimal("10.00");
+
+    private static final Money ORDER_TOTAL_MONEY = Money.ofMinor("IDR", 19999);
+    private static final Money PRODUCT_PRICE_MONEY = Money.ofMinor("IDR", 9999);
+    private static final Money LINE_DISCOUNT_MONEY = Money.ofMinor("IDR", 1000);
+
+    // Request amount as bound by Jackson from "amount":"199.99"
+    private BigDecimal requestAmount;
+
+    private GenericJackson2JsonRedisSerializer decimalSerializer;
+    private GenericJackson2JsonRedisSerializer minorUnitsSerializer;
+    private Map<String, Object> bigDecimalEnvelope;
+    private Map<String, Object> moneyEnvelope;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        requestAmount = new BigDecimal("199.99");
+        decimalSerializer = PaymentPayloads.eventSerializer(MoneyJsonSerializer.Format.DECIMAL);
+        minorUnitsSerializer = PaymentPayloads.eventSerializer(MoneyJsonSerializer.Format.MINOR_UNITS);
+        bigDecimalEnvelope = PaymentPayloads.envelope("PAYMENT_SUCCESS", successEvent(requestAmount));
+        moneyEnvelope = PaymentPayloads.envelope("PAYMENT_SUCCESS", successEvent(Money.of(requestAmount, "USD")));
+    }
+
+    private static Map<String, Object> successEvent(Object amount) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("orderId", "ORD123456789");
+        event.put("transactionId", "TXN1742200133539");
+        event.put("amount", amount);
+        event.put("currency", "USD");
+        event.put("paymentMethod", "CREDIT_CARD");
+        event.put("paymentStatus", "SUCCESS");
+        return event;
+    }
+
+    @Benchmark
+    public boolean validateBigDecimal() {
+        if (requestAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            return false;
+        }
+        BigDecimal subtotal = PRODUCT_PRICE.multiply(new BigDecimal(2));
+        BigDecimal totalPrice = subtotal.subtract(LINE_DISCOUNT);
+        return ORDER_TOTAL.compareTo(requestAmount) == 0 && totalPrice.signum() > 0;
+    }
+
+    // Includes the exact conversion at the REST boundary
+    @Benchmark
+    public boolean validateMoney() {
+        Money amount = Money.of(requestAmount, "USD");
+        if (!amount.isPositive()) {
+            return false;
+        }
+        Money totalPrice = PRODUCT_PRICE_MONEY.times(2).minus(LINE_DISCOUNT_MONEY);
+        return ORDER_TOTAL_MONEY.hasSameAmount(amount) && totalPrice.isPositive();
+    }
+
+    @Benchmark
+    public byte[] serializeBigDecimal() {
+        return decimalSerializer.serialize(bigDecimalEnvelope);
+    }
+
+    @Benchmark
+    public byte[] serializeMoneyDecimal() {
+        return decimalSerializer.serialize(moneyEnvelope);
+    }
+
+    @Benchmark
+    public byte[] serializeMoneyMinorUnits() {
+        return minorUnitsSerializer.serialize(moneyEnvelope);
+    }
+}
@@ -0,0 +1,90 @@
+package com.yoanesber.spring.redis_publisher_lettuce.benchmark;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.yoanesber.spring.redis_publisher_lettuce.redis.PayloadCompressor;
+
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/*
+ * CPU cost vs. byte savings of LZ4 envelope compression on realistic payloads.
+ * The payload sizes (raw, compressed, on the wire) are printed once per trial.
+ * 
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PayloadCompressionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadCompressionBenchmark {
+
+    // payment: PAYMENT_SUCCESS with a projected OrderPayment; order-N: order-level event with N detail lines
+    @Param({"payment", "order-10", "order-50"})
+    private String payload;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private PayloadCompressor compressor;
+    private LZ4FastDecompressor decompressor;
+    private Map<String, Object> envelope;
+    private byte[] compressedBlock;
+    private int originalSize;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = PaymentPayloads.eventSerializer();
+        compressor = new PayloadCompressor(true, 0);
+        decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+        Object message = payload.equals("payment")
+            ? PaymentPayloads.projectedOrderPayment()
+            : PaymentPayloads.order(Integer.parseInt(payload.substring("order-".length())));
+        envelope = PaymentPayloads.envelope("PAYMENT_SUCCESS", message);
+
+        byte[] body = serializer.serialize(envelope);
+        Map<String, Object> compressed = compressor.compress("PAYMENT_SUCCESS", body);
+        byte[] wire = serializer.serialize(compressed);
+        originalSize = body.length;
+        compressedBlock = Base64.getDecoder().decode((String) compressed.get("message"));
+
+        System.out.printf("%n[%s] raw envelope: %d bytes, lz4 block: %d bytes, compressed envelope: %d bytes (%.1f%% of raw)%n",
+            payload, body.length, compressedBlock.length, wire.length, 100.0 * wire.length / body.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(envelope);
+    }
+
+    // Same as MessagePublisher: the compressed envelope is only kept if it is smaller
+    @Benchmark
+    public byte[] serializeAndCompress() {
+        byte[] body = serializer.serialize(envelope);
+        byte[] compressed = serializer.serialize(compressor.compress("PAYMENT_SUCCESS", body));
+        return compressed.length < body.length ? compressed : body;
+    }
+
+    // Subscriber side: Base64 decoding is excluded, only the LZ4 block is decompressed
+    @Benchmark
+    public byte[] decompress() {
+        return decompressor.decompress(compressedBlock, originalSize);
+    }
+}
@@ -0,0 +1,117 @@
+package com.yoanesber.spring.redis_publisher_lettuce.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yoanesber.spring.redis_publisher_lettuce.config.EventProjectionConfig;
+import com.yoanesber.spring.redis_publisher_lettuce.config.MoneyJsonSerializer;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Order;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderDetail;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+
+/*
+ * Realistic event payloads shared by the benchmarks.
+ */
+final class PaymentPayloads {
+
+    private PaymentPayloads() {
+    }
+
+    // Same serializer configuration as RedisConfig.redisTemplate()
+    static GenericJackson2JsonRedisSerializer eventSerializer() {
+        return eventSerializer(MoneyJsonSerializer.Format.DECIMAL);
+    }
+
+    static GenericJackson2JsonRedisSerializer eventSerializer(MoneyJsonSerializer.Format moneyFormat) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.registerModule(new SimpleModule().addSerializer(Money.class, new MoneyJsonSerializer(moneyFormat)));
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    static Map<String, Object> envelope(String channel, Object message) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("event", channel);
+        data.put("message", message);
+        return data;
+    }
+
+    // PAYMENT_SUCCESS envelope as published for a credit card payment, after projection
+    static String successEnvelopeJson() {
+        return new String(eventSerializer().serialize(envelope("PAYMENT_SUCCESS", projectedOrderPayment())), StandardCharsets.UTF_8);
+    }
+
+    static Object projectedOrderPayment() {
+        return new EventProjectionConfig().paymentSuccessProjection().project(orderPayment());
+    }
+
+    static OrderPayment orderPayment() {
+        OrderPayment orderPayment = new OrderPayment();
+        orderPayment.setOrderId("ORD123456789");
+        orderPayment.setAmount(Money.ofMinor("USD", 19999));
+        orderPayment.setCurrency("USD");
+        orderPayment.setPaymentMethod("CREDIT_CARD");
+        orderPayment.setPaymentStatus("SUCCESS");
+        orderPayment.setCardNumber("1234 5678 9012 3456");
+        orderPayment.setCardExpiry("31/12");
+        orderPayment.setCardCvv("123");
+        orderPayment.setTransactionId("TXN1742200133539");
+        return orderPayment;
+    }
+
+    // Order-level event with the given number of detail lines
+    static Order order(int lines) {
+        Order order = new Order();
+        order.setOrderId("ORD123456789");
+        order.setOrderDate(LocalDateTime.now());
+        order.setOrderStatus("PENDING");
+        order.setOrderTotal(Money.ofMinor("IDR", 19999).times(lines));
+        order.setCurrency("IDR");
+        order.setCustomerId("CUST1001");
+        order.setCustomerName("Agus Yulianto");
+        order.setCustomerEmail("agus_yulianto@example.com");
+        order.setCustomerPhone("+62-811-222-3333");
+        order.setPaymentMethod("CREDIT_CARD");
+        order.setPaymentStatus("PENDING_PAYMENT");
+        order.setShippingAddress("Jl. Melati V No. 8, Solo, Jawa Tengah, Indonesia");
+        order.setShippingMethod("STANDARD");
+        order.setDeliveryDate(LocalDateTime.now().plusDays(5));
+        order.setTaxAmount(Money.ofMinor("IDR", 999));
+        order.setDiscountCode("DISCOUNT10");
+        order.setDiscountAmount(Money.ofMinor("IDR", 1000));
+        order.setCreatedAt(Instant.now());
+        order.setUpdatedAt(Instant.now());
+        order.setProcessedBy("AdminUser");
+
+        List<OrderDetail> orderDetails = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            OrderDetail orderDetail = new OrderDetail();
+            orderDetail.setProductId("PROD" + (1000 + i));
+            orderDetail.setProductName("Product " + i);
+            orderDetail.setProductPrice(Money.ofMinor("IDR", 9999));
+            orderDetail.setQuantity(2);
+            orderDetail.setSubtotal(orderDetail.getProductPrice().times(orderDetail.getQuantity()));
+            orderDetail.setDiscountAmount(Money.ofMinor("IDR", 1000));
+            orderDetail.setTotalPrice(orderDetail.getSubtotal().minus(orderDetail.getDiscountAmount()));
+            orderDetail.setProductImageUrl("https://example.com/product-" + i + ".jpg");
+            orderDetail.setNotes("No special notes");
+            orderDetails.add(orderDetail);
+        }
+        order.setOrderDetails(orderDetails);
+
+        return order;
+    }
+}
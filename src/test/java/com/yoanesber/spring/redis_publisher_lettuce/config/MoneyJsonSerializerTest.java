@@ -0,0 +1,37 @@
+package com.yoanesber.spring.redis_publisher_lettuce.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+
+class MoneyJsonSerializerTest {
+
+	private final ObjectMapper decimalMapper = mapper(MoneyJsonSerializer.Format.DECIMAL);
+
+	private final ObjectMapper minorUnitsMapper = mapper(MoneyJsonSerializer.Format.MINOR_UNITS);
+
+	@Test
+	void writesDecimalAmountsLikeBigDecimal() throws Exception {
+		for (Money amount : new Money[] {
+			Money.ofMinor("USD", 19999), Money.ofMinor("USD", 5), Money.ofMinor("USD", 0), Money.ofMinor("USD", -19999),
+			Money.ofMinor("USD", -5), Money.ofMinor("JPY", 500), Money.ofMinor("BHD", 1234567), Money.ofMinor("CLF", 1),
+			Money.ofMinor("USD", Long.MAX_VALUE), Money.ofMinor("USD", Long.MIN_VALUE) }) {
+
+			assertThat(decimalMapper.writeValueAsString(amount)).isEqualTo(amount.toBigDecimal().toString());
+		}
+	}
+
+	@Test
+	void writesMinorUnits() throws Exception {
+		assertThat(minorUnitsMapper.writeValueAsString(Money.ofMinor("USD", 19999))).isEqualTo("19999");
+	}
+
+	private static ObjectMapper mapper(MoneyJsonSerializer.Format format) {
+		return new ObjectMapper().registerModule(new SimpleModule().addSerializer(Money.class, new MoneyJsonSerializer(format)));
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.yoanesber.spring.redis_publisher_lettuce.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+	@Test
+	void convertsDecimalAmountsExactly() {
+		Money amount = Money.of(new BigDecimal("199.99"), "USD");
+
+		assertThat(amount.getMinorUnits()).isEqualTo(19999);
+		assertThat(amount.toBigDecimal()).isEqualTo(new BigDecimal("199.99"));
+		assertThat(Money.of(new BigDecimal("199.9"), "USD").getMinorUnits()).isEqualTo(19990);
+		assertThat(Money.of(new BigDecimal("500"), "JPY").getMinorUnits()).isEqualTo(500);
+	}
+
+	@Test
+	void fastPathConvertsExactly() {
+		assertThat(Money.of(new BigDecimal("0.01"), "USD").getMinorUnits()).isEqualTo(1);
+		assertThat(Money.of(new BigDecimal("-199.99"), "USD").getMinorUnits()).isEqualTo(-19999);
+		assertThat(Money.of(new BigDecimal("0.29"), "USD").getMinorUnits()).isEqualTo(29);
+		assertThat(Money.of(new BigDecimal("1.005"), "BHD").getMinorUnits()).isEqualTo(1005);
+		// 15 digits in minor units, the largest amount on the fast path
+		assertThat(Money.of(new BigDecimal("9999999999999.99"), "USD").getMinorUnits()).isEqualTo(999999999999999L);
+		assertThat(Money.of(new BigDecimal("99999999999999.99"), "USD").getMinorUnits()).isEqualTo(9999999999999999L);
+
+		for (long minorUnits = -100_000; minorUnits <= 100_000; minorUnits += 7) {
+			assertThat(Money.of(BigDecimal.valueOf(minorUnits, 2), "USD").getMinorUnits()).isEqualTo(minorUnits);
+		}
+	}
+
+	@Test
+	void rejectsAmountsThatWouldBeRounded() {
+		assertThatIllegalArgumentException().isThrownBy(() -> Money.of(new BigDecimal("199.999"), "USD"));
+		assertThatIllegalArgumentException().isThrownBy(() -> Money.of(new BigDecimal("1.5"), "JPY"));
+		assertThatIllegalArgumentException().isThrownBy(() -> Money.of(BigDecimal.ONE, "XYZ"));
+	}
+
+	@Test
+	void rejectsExtremeScalesWithoutRescaling() {
+		assertThatIllegalArgumentException().isThrownBy(() -> Money.of(new BigDecimal("1E+100000000"), "USD"))
+			.withMessageContaining("too large");
+		assertThatIllegalArgumentException().isThrownBy(() -> Money.of(new BigDecimal("1E-100000000"), "USD"))
+			.withMessageContaining("fraction digits");
+		assertThatIllegalArgumentException().isThrownBy(() -> Money.of(new BigDecimal("1000000000000000000"), "JPY"));
+		assertThatIllegalArgumentException().isThrownBy(() -> Money.of(new BigDecimal("100000000000000000"), "USD"));
+	}
+
+	@Test
+	void acceptsTrailingZerosAndLargestAmounts() {
+		assertThat(Money.of(new BigDecimal("199.99000"), "USD").getMinorUnits()).isEqualTo(19999);
+		assertThat(Money.of(new BigDecimal("0E+100000000"), "USD").getMinorUnits()).isZero();
+		assertThat(Money.of(new BigDecimal("1E+2"), "USD").getMinorUnits()).isEqualTo(10000);
+		assertThat(Money.of(new BigDecimal("999999999999999999"), "JPY").getMinorUnits()).isEqualTo(999999999999999999L);
+	}
+
+	@Test
+	void computesInMinorUnits() {
+		Money price = Money.ofMinor("IDR", 9999);
+		Money total = price.times(2).minus(Money.ofMinor("IDR", 1000));
+
+		assertThat(total).isEqualTo(Money.ofMinor("IDR", 18998));
+		assertThat(total.hasSameAmount(Money.ofMinor("USD", 18998))).isTrue();
+		assertThatIllegalArgumentException().isThrownBy(() -> price.plus(Money.ofMinor("USD", 1)));
+		assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> Money.ofMinor("USD", Long.MAX_VALUE).times(2));
+	}
+
+}
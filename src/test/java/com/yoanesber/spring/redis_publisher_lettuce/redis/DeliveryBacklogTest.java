@@ -0,0 +1,64 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+class DeliveryBacklogTest {
+
+	private RedisTemplate<String, Object> redisTemplate;
+
+	private DeliveryBacklog deliveryBacklog;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		when(redisTemplate.getStringSerializer()).thenReturn(StringRedisSerializer.UTF_8);
+
+		// Max rate 1000/s, max limit 100, time budget 50 ms
+		deliveryBacklog = new DeliveryBacklog(redisTemplate, true, 10000, 1, "", 1000, 100, 50);
+	}
+
+	@Test
+	void rejectsRateAndLimitAboveTheirMaximum() {
+		assertThatIllegalArgumentException().isThrownBy(() -> deliveryBacklog.replay("PAYMENT_SUCCESS", 1001, 10))
+			.withMessageContaining("1000");
+		assertThatIllegalArgumentException().isThrownBy(() -> deliveryBacklog.replay("PAYMENT_SUCCESS", 10, 101))
+			.withMessageContaining("100");
+		assertThatIllegalArgumentException().isThrownBy(() -> deliveryBacklog.replay("PAYMENT_SUCCESS", 0, 10));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void stopsWhenTheTimeBudgetIsReached() {
+		// Every event is delivered; at 100 events per second only the first few fit in 50 ms
+		when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any())).thenReturn(1L);
+
+		long start = System.nanoTime();
+		int replayed = deliveryBacklog.replay("PAYMENT_SUCCESS", 100, 100);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		assertThat(replayed).isBetween(1, 6);
+		assertThat(elapsedMillis).isLessThan(1000);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void stopsWhenTheBacklogIsEmpty() {
+		when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any())).thenReturn(1L, 1L, -1L);
+
+		assertThat(deliveryBacklog.replay("PAYMENT_SUCCESS", 1000, 100)).isEqualTo(2);
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yoanesber.spring.redis_publisher_lettuce.config.MoneyJsonSerializer;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+
+class EventProjectionTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.registerModule(new SimpleModule().addSerializer(Money.class, new MoneyJsonSerializer(MoneyJsonSerializer.Format.DECIMAL)))
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@Test
+	void writesOnlyDeclaredFieldsInOrder() throws Exception {
+		OrderPayment orderPayment = new OrderPayment();
+		orderPayment.setOrderId("ORD123456789");
+		orderPayment.setTransactionId("TXN1");
+		orderPayment.setAmount(Money.ofMinor("USD", 19999));
+		orderPayment.setCreatedAt(Instant.parse("2025-03-17T08:00:00Z"));
+		orderPayment.setCardNumber("1234 5678 9012 3456");
+		orderPayment.setCardCvv("123");
+
+		EventProjection projection = EventProjection.of("PAYMENT_SUCCESS", OrderPayment.class, 
+			"orderId", "transactionId", "amount", "paymentStatus", "createdAt");
+
+		assertThat(objectMapper.writeValueAsString(projection.project(orderPayment))).isEqualTo(
+			"{\"orderId\":\"ORD123456789\",\"transactionId\":\"TXN1\",\"amount\":199.99,"
+			+ "\"paymentStatus\":null,\"createdAt\":\"2025-03-17T08:00:00Z\"}");
+	}
+
+	@Test
+	void writesWithCachedSerializersOnEveryPublish() throws Exception {
+		EventProjection projection = EventProjection.of("PAYMENT_SUCCESS", OrderPayment.class, "orderId", "amount");
+
+		for (int i = 1; i <= 3; i++) {
+			OrderPayment orderPayment = new OrderPayment();
+			orderPayment.setOrderId("ORD" + i);
+			orderPayment.setAmount(Money.ofMinor("USD", i));
+
+			assertThat(objectMapper.writeValueAsString(projection.project(orderPayment)))
+				.isEqualTo("{\"orderId\":\"ORD" + i + "\",\"amount\":0.0" + i + "}");
+		}
+	}
+
+	@Test
+	void rejectsUnknownFieldAtCreation() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> EventProjection.of("PAYMENT_SUCCESS", OrderPayment.class, "orderId", "cardHolder"))
+			.withMessageContaining("cardHolder");
+	}
+
+	@Test
+	void eventProjectionsPassUnsupportedMessagesThrough() {
+		EventProjections projections = new EventProjections(
+			List.of(EventProjection.of("PAYMENT_SUCCESS", OrderPayment.class, "orderId")), true);
+
+		assertThat(projections.project("PAYMENT_SUCCESS", "plain text")).isEqualTo("plain text");
+		assertThat(projections.project("ORDER_SHIPPED", new OrderPayment())).isInstanceOf(OrderPayment.class);
+		assertThat(projections.project("PAYMENT_SUCCESS", new OrderPayment())).isInstanceOf(ProjectedEvent.class);
+	}
+
+}
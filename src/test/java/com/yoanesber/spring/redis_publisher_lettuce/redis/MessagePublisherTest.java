@@ -0,0 +1,94 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatRuntimeException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yoanesber.spring.redis_publisher_lettuce.audit.PublishAuditLog;
+import com.yoanesber.spring.redis_publisher_lettuce.config.MoneyJsonSerializer;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PublishAuditDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+
+class MessagePublisherTest {
+
+	private final PublishAuditLog publishAuditLog = new PublishAuditLog(8, 0, 1000);
+
+	private RedisTemplate<String, Object> redisTemplate;
+
+	private DeliveryBacklog deliveryBacklog;
+
+	private PaymentStatusIndex paymentStatusIndex;
+
+	private MessagePublisher messagePublisher;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.registerModule(new SimpleModule().addSerializer(Money.class, new MoneyJsonSerializer(MoneyJsonSerializer.Format.DECIMAL)));
+		doReturn(new GenericJackson2JsonRedisSerializer(objectMapper)).when(redisTemplate).getValueSerializer();
+		when(redisTemplate.getStringSerializer()).thenReturn(StringRedisSerializer.UTF_8);
+
+		deliveryBacklog = mock(DeliveryBacklog.class);
+		paymentStatusIndex = mock(PaymentStatusIndex.class);
+
+		messagePublisher = new MessagePublisher(redisTemplate, new EventProjections(List.of(), true), 
+			new PayloadCompressor(false, 1024), deliveryBacklog, publishAuditLog, paymentStatusIndex);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void sideEffectFailuresAfterPublishDoNotFailThePublish() {
+		when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(0L);
+		when(deliveryBacklog.isUndelivered(anyString(), any())).thenReturn(true);
+		doThrow(new RedisConnectionFailureException("backlog down")).when(deliveryBacklog).store(anyString(), any());
+		doThrow(new IllegalStateException("index down")).when(paymentStatusIndex).onPublished(anyString(), any());
+
+		long receivers = messagePublisher.publish("PAYMENT_SUCCESS", "ORD1", orderPayment());
+
+		assertThat(receivers).isZero();
+		assertThat(publishAuditLog.query(null, null, 10)).extracting(PublishAuditDTO::getReceivers).containsExactly(0L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishFailureIsRecordedAndRethrown() {
+		when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new RedisConnectionFailureException("redis down"));
+
+		assertThatRuntimeException()
+			.isThrownBy(() -> messagePublisher.publish("PAYMENT_SUCCESS", "ORD1", orderPayment()))
+			.withMessageContaining("PAYMENT_SUCCESS");
+		assertThat(publishAuditLog.query(null, null, 10)).extracting(PublishAuditDTO::getReceivers).containsExactly(-1L);
+	}
+
+	private static OrderPayment orderPayment() {
+		OrderPayment orderPayment = new OrderPayment();
+		orderPayment.setOrderId("ORD1");
+		orderPayment.setAmount(Money.ofMinor("USD", 19999));
+		orderPayment.setCurrency("USD");
+		orderPayment.setPaymentStatus("SUCCESS");
+		return orderPayment;
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import net.jpountz.lz4.LZ4Factory;
+
+class PayloadCompressorTest {
+
+	@Test
+	void compressedEnvelopeDecompressesToOriginalBytes() {
+		byte[] body = "{\"event\":\"PAYMENT_SUCCESS\",\"message\":{\"orderId\":\"ORD123456789\"}}"
+			.repeat(20).getBytes(StandardCharsets.UTF_8);
+
+		Map<String, Object> envelope = new PayloadCompressor(true, 0).compress("PAYMENT_SUCCESS", body);
+
+		assertThat(envelope).containsEntry("event", "PAYMENT_SUCCESS")
+			.containsEntry("compression", PayloadCompressor.CODEC)
+			.containsEntry("originalSize", body.length);
+
+		byte[] compressed = Base64.getDecoder().decode((String) envelope.get("message"));
+		byte[] decompressed = LZ4Factory.fastestInstance().fastDecompressor()
+			.decompress(compressed, (Integer) envelope.get("originalSize"));
+
+		assertThat(compressed.length).isLessThan(body.length);
+		assertThat(decompressed).isEqualTo(body);
+	}
+
+	@Test
+	void compressesFromThresholdInclusive() {
+		PayloadCompressor compressor = new PayloadCompressor(true, 1024);
+
+		assertThat(compressor.shouldCompress(1023)).isFalse();
+		assertThat(compressor.shouldCompress(1024)).isTrue();
+		assertThat(new PayloadCompressor(false, 1024).shouldCompress(4096)).isFalse();
+	}
+
+	@Test
+	void rejectsNegativeThreshold() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new PayloadCompressor(true, -1));
+	}
+
+}
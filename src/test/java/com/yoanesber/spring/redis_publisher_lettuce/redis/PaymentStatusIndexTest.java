@@ -0,0 +1,124 @@
+package com.yoanesber.spring.redis_publisher_lettuce.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.yoanesber.spring.redis_publisher_lettuce.config.RedisConfig;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentFailedEventDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.dto.PaymentStatusResponseDTO;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.Money;
+import com.yoanesber.spring.redis_publisher_lettuce.entity.OrderPayment;
+
+class PaymentStatusIndexTest {
+
+	private final RedisSerializer<PaymentStatusResponseDTO> serializer = RedisConfig.paymentStatusSerializer();
+
+	// Redis keys, as written by the serializer of paymentStatusRedisTemplate
+	private final Map<String, byte[]> redis = new HashMap<>();
+
+	private RedisTemplate<String, PaymentStatusResponseDTO> redisTemplate;
+
+	private ValueOperations<String, PaymentStatusResponseDTO> valueOperations;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+		doAnswer(invocation -> {
+			redis.put(invocation.getArgument(0), serializer.serialize(invocation.getArgument(1)));
+			return null;
+		}).when(valueOperations).set(anyString(), any(), any(Duration.class));
+		when(valueOperations.get(anyString()))
+			.thenAnswer(invocation -> serializer.deserialize(redis.get((String) invocation.getArgument(0))));
+	}
+
+	@Test
+	void writesThroughAndServesEvictedStatusFromRedis() {
+		PaymentStatusIndex statusIndex = new PaymentStatusIndex(redisTemplate, 1, 60_000, 86400);
+
+		statusIndex.onPublished("PAYMENT_SUCCESS", orderPayment("ORD1", "TXN1"));
+		statusIndex.onPublished("PAYMENT_SUCCESS", orderPayment("ORD2", "TXN2"));
+
+		assertThat(redis).containsOnlyKeys("payment-status:ORD1", "payment-status:ORD2");
+
+		PaymentStatusResponseDTO status = statusIndex.find("ORD1");
+
+		assertThat(status.getOrderId()).isEqualTo("ORD1");
+		assertThat(status.getTransactionId()).isEqualTo("TXN1");
+		assertThat(status.getPaymentStatus()).isEqualTo("SUCCESS");
+		assertThat(status.getAmount()).isEqualByComparingTo(new BigDecimal("199.99"));
+		assertThat(status.getCurrency()).isEqualTo("USD");
+		assertThat(status.getUpdatedAt()).isNotNull();
+		assertThat(statusIndex.find("ORD2").getTransactionId()).isEqualTo("TXN2");
+	}
+
+	@Test
+	void readBackDoesNotOverwriteNewerStatus() {
+		PaymentStatusIndex statusIndex = new PaymentStatusIndex(redisTemplate, 1, 60_000, 86400);
+		statusIndex.onPublished("PAYMENT_FAILED", paymentFailed("ORD1"));
+		statusIndex.onPublished("PAYMENT_SUCCESS", orderPayment("ORD2", "TXN2"));
+
+		// The retry succeeds while the lookup of ORD1 is reading the FAILED status from Redis
+		when(valueOperations.get("payment-status:ORD1")).thenAnswer(invocation -> {
+			PaymentStatusResponseDTO failed = serializer.deserialize(redis.get("payment-status:ORD1"));
+			statusIndex.onPublished("PAYMENT_SUCCESS", orderPayment("ORD1", "TXN1"));
+			return failed;
+		});
+
+		assertThat(statusIndex.find("ORD1").getPaymentStatus()).isEqualTo("SUCCESS");
+		assertThat(statusIndex.find("ORD1").getTransactionId()).isEqualTo("TXN1");
+	}
+
+	@Test
+	void seesStatusPublishedByAnotherInstanceAfterLocalTtl() {
+		PaymentStatusIndex statusIndex = new PaymentStatusIndex(redisTemplate, 16, 0, 86400);
+		PaymentStatusIndex otherInstance = new PaymentStatusIndex(redisTemplate, 16, 0, 86400);
+
+		statusIndex.onPublished("PAYMENT_FAILED", paymentFailed("ORD1"));
+		otherInstance.onPublished("PAYMENT_SUCCESS", orderPayment("ORD1", "TXN1"));
+
+		assertThat(statusIndex.find("ORD1").getPaymentStatus()).isEqualTo("SUCCESS");
+	}
+
+	@Test
+	void returnsNullForUnknownOrder() {
+		PaymentStatusIndex statusIndex = new PaymentStatusIndex(redisTemplate, 1, 60_000, 86400);
+
+		assertThat(statusIndex.find("ORD404")).isNull();
+	}
+
+	private static OrderPayment orderPayment(String orderId, String transactionId) {
+		OrderPayment orderPayment = new OrderPayment();
+		orderPayment.setOrderId(orderId);
+		orderPayment.setTransactionId(transactionId);
+		orderPayment.setAmount(Money.ofMinor("USD", 19999));
+		orderPayment.setCurrency("USD");
+		orderPayment.setPaymentMethod("CREDIT_CARD");
+		orderPayment.setPaymentStatus("SUCCESS");
+		return orderPayment;
+	}
+
+	private static PaymentFailedEventDTO paymentFailed(String orderId) {
+		return new PaymentFailedEventDTO(orderId, "CREDIT_CARD", Money.ofMinor("USD", 19999), "USD",
+			"Payment processing failed: declined");
+	}
+
+}